@@ -5,7 +5,7 @@ import com.catalog.admin.domain.category.Category;
 public class UseCase {
 
     public Category execute() {
-        return new Category();
+        return Category.create("Category", "", true);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.catalog.admin.application.admission;
+
+import com.catalog.admin.domain.exceptions.DomainException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// Gatekeeper in front of use-case execution. Each operation has its own rate
+// and concurrency budget so a storm of writes cannot consume the capacity
+// reserved for reads; calls over budget fail immediately instead of queueing.
+// Only exceptions the failure classifier accepts make the concurrency limit
+// back off; by default a DomainException is the caller's fault, not a sign of
+// overload, and counts as a normal completion.
+public class AdmissionController {
+
+    private final Map<Operation, TokenBucket> rateLimits;
+    private final Map<Operation, AimdConcurrencyLimit> concurrencyLimits;
+    private final LongSupplier nanoTime;
+    private final Predicate<RuntimeException> isFailure;
+
+    private AdmissionController(final Builder builder) {
+        this.rateLimits = new EnumMap<>(builder.rateLimits);
+        this.concurrencyLimits = new EnumMap<>(builder.concurrencyLimits);
+        this.nanoTime = builder.nanoTime;
+        this.isFailure = builder.isFailure;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // The concurrency slot is taken before the rate token, so a call shed for
+    // concurrency does not spend rate budget.
+    public <T> T execute(final Operation operation, final Supplier<T> useCase) {
+        final var limit = this.concurrencyLimits.get(operation);
+
+        if (limit != null && !limit.tryAcquire()) {
+            throw AdmissionRejectedException.with(
+                    operation,
+                    AdmissionRejectedException.Reason.CONCURRENCY_LIMITED
+            );
+        }
+
+        final var bucket = this.rateLimits.get(operation);
+
+        if (bucket != null && !bucket.tryAcquire()) {
+            if (limit != null) {
+                limit.cancel();
+            }
+
+            throw AdmissionRejectedException.with(
+                    operation,
+                    AdmissionRejectedException.Reason.RATE_LIMITED
+            );
+        }
+
+        if (limit == null) {
+            return useCase.get();
+        }
+
+        final var start = this.nanoTime.getAsLong();
+        var failed = true;
+
+        try {
+            final var result = useCase.get();
+            failed = false;
+            return result;
+        } catch (final RuntimeException ex) {
+            failed = this.isFailure.test(ex);
+            throw ex;
+        } finally {
+            limit.release(this.nanoTime.getAsLong() - start, failed);
+        }
+    }
+
+    public void execute(final Operation operation, final Runnable useCase) {
+        execute(operation, () -> {
+            useCase.run();
+            return null;
+        });
+    }
+
+    public static class Builder {
+
+        private final Map<Operation, TokenBucket> rateLimits = new EnumMap<>(Operation.class);
+        private final Map<Operation, AimdConcurrencyLimit> concurrencyLimits = new EnumMap<>(Operation.class);
+        private LongSupplier nanoTime = System::nanoTime;
+        private Predicate<RuntimeException> isFailure = ex -> !(ex instanceof DomainException);
+
+        private Builder() {
+        }
+
+        public Builder rateLimit(final Operation operation, final TokenBucket bucket) {
+            this.rateLimits.put(
+                    Objects.requireNonNull(operation, "'operation' must not be null"),
+                    Objects.requireNonNull(bucket, "'bucket' must not be null")
+            );
+            return this;
+        }
+
+        public Builder concurrencyLimit(final Operation operation, final AimdConcurrencyLimit limit) {
+            this.concurrencyLimits.put(
+                    Objects.requireNonNull(operation, "'operation' must not be null"),
+                    Objects.requireNonNull(limit, "'limit' must not be null")
+            );
+            return this;
+        }
+
+        public Builder nanoTime(final LongSupplier nanoTime) {
+            this.nanoTime = Objects.requireNonNull(nanoTime, "'nanoTime' must not be null");
+            return this;
+        }
+
+        // Decides which exceptions thrown by a use case signal overload and
+        // shrink the concurrency limit.
+        public Builder failureClassifier(final Predicate<RuntimeException> isFailure) {
+            this.isFailure = Objects.requireNonNull(isFailure, "'isFailure' must not be null");
+            return this;
+        }
+
+        public AdmissionController build() {
+            return new AdmissionController(this);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.catalog.admin.application.admission;
+
+import com.catalog.admin.domain.exceptions.NoStackTraceException;
+
+public class AdmissionRejectedException extends NoStackTraceException {
+
+    private final Operation operation;
+    private final Reason reason;
+
+    private AdmissionRejectedException(final Operation operation, final Reason reason) {
+        super("'%s' rejected: %s".formatted(operation, reason));
+        this.operation = operation;
+        this.reason = reason;
+    }
+
+    public static AdmissionRejectedException with(final Operation operation, final Reason reason) {
+        return new AdmissionRejectedException(operation, reason);
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public enum Reason {
+        RATE_LIMITED,
+        CONCURRENCY_LIMITED
+    }
+}
@@ -0,0 +1,84 @@
+package com.catalog.admin.application.admission;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Adaptive in-flight limit: grows by one per limit-worth of fast completions
+// and shrinks multiplicatively whenever a call is slower than the latency
+// target, so the limit tracks what the backend sustains at that latency.
+public class AimdConcurrencyLimit {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    private AimdConcurrencyLimit(
+            final int initialLimit,
+            final int minLimit,
+            final int maxLimit,
+            final Duration targetLatency
+    ) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("limits must satisfy 1 <= min <= initial <= max");
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatency.toNanos();
+        this.limit = initialLimit;
+    }
+
+    public static AimdConcurrencyLimit create(
+            final int initialLimit,
+            final int minLimit,
+            final int maxLimit,
+            final Duration targetLatency
+    ) {
+        return new AimdConcurrencyLimit(initialLimit, minLimit, maxLimit, targetLatency);
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            final var current = this.inFlight.get();
+
+            if (current >= (int) this.limit) {
+                return false;
+            }
+
+            if (this.inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(final long latencyNanos, final boolean failed) {
+        this.inFlight.decrementAndGet();
+
+        synchronized (this) {
+            final var current = this.limit;
+
+            if (failed || latencyNanos > this.targetLatencyNanos) {
+                this.limit = Math.max(this.minLimit, current * BACKOFF_RATIO);
+            } else {
+                this.limit = Math.min(this.maxLimit, current + 1.0 / current);
+            }
+        }
+    }
+
+    // Gives back a slot whose call never ran, without counting it as a sample.
+    public void cancel() {
+        this.inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) this.limit;
+    }
+
+    public int getInFlight() {
+        return this.inFlight.get();
+    }
+}
@@ -0,0 +1,9 @@
+package com.catalog.admin.application.admission;
+
+public enum Operation {
+    CREATE,
+    UPDATE,
+    DELETE,
+    GET,
+    LIST
+}
@@ -0,0 +1,63 @@
+package com.catalog.admin.application.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Token bucket expressed as a generic cell rate algorithm: the whole state is
+// the theoretical arrival time of the next permit, so acquiring is a single
+// CAS with no refill bookkeeping.
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoTime;
+    private final AtomicLong theoreticalArrival;
+
+    private TokenBucket(
+            final double permitsPerSecond,
+            final int burst,
+            final LongSupplier nanoTime
+    ) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("'permitsPerSecond' must be positive");
+        }
+
+        if (burst < 1) {
+            throw new IllegalArgumentException("'burst' must be at least 1");
+        }
+
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / permitsPerSecond));
+        this.burstNanos = this.intervalNanos * burst;
+        this.nanoTime = nanoTime;
+        this.theoreticalArrival = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    public static TokenBucket create(final double permitsPerSecond, final int burst) {
+        return create(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    public static TokenBucket create(
+            final double permitsPerSecond,
+            final int burst,
+            final LongSupplier nanoTime
+    ) {
+        return new TokenBucket(permitsPerSecond, burst, nanoTime);
+    }
+
+    public boolean tryAcquire() {
+        final var now = this.nanoTime.getAsLong();
+
+        while (true) {
+            final var arrival = this.theoreticalArrival.get();
+            final var next = Math.max(arrival, now) + this.intervalNanos;
+
+            if (next - now > this.burstNanos) {
+                return false;
+            }
+
+            if (this.theoreticalArrival.compareAndSet(arrival, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.catalog.admin.application.admission;
+
+import com.catalog.admin.domain.exceptions.DomainException;
+import com.catalog.admin.domain.validation.Error;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AdmissionControllerTest {
+
+    @Test
+    public void givenARateLimitedOperation_whenTheBurstIsExhausted_thenRejectUntilTokensRefill() {
+        final var now = new AtomicLong();
+        final var controller = AdmissionController.builder()
+                .rateLimit(Operation.CREATE, TokenBucket.create(10, 2, now::get))
+                .build();
+
+        Assertions.assertEquals("ok", controller.execute(Operation.CREATE, () -> "ok"));
+        Assertions.assertEquals("ok", controller.execute(Operation.CREATE, () -> "ok"));
+
+        final var exception = Assertions.assertThrows(
+                AdmissionRejectedException.class,
+                () -> controller.execute(Operation.CREATE, () -> "ok")
+        );
+
+        Assertions.assertEquals(Operation.CREATE, exception.getOperation());
+        Assertions.assertEquals(AdmissionRejectedException.Reason.RATE_LIMITED, exception.getReason());
+
+        now.addAndGet(Duration.ofMillis(100).toNanos());
+
+        Assertions.assertEquals("ok", controller.execute(Operation.CREATE, () -> "ok"));
+    }
+
+    @Test
+    public void givenARateLimitedWriteOperation_whenItIsExhausted_thenReadsAreStillAdmitted() {
+        final var now = new AtomicLong();
+        final var controller = AdmissionController.builder()
+                .rateLimit(Operation.UPDATE, TokenBucket.create(1, 1, now::get))
+                .build();
+
+        controller.execute(Operation.UPDATE, () -> "ok");
+
+        Assertions.assertThrows(
+                AdmissionRejectedException.class,
+                () -> controller.execute(Operation.UPDATE, () -> "ok")
+        );
+        Assertions.assertEquals("ok", controller.execute(Operation.LIST, () -> "ok"));
+    }
+
+    @Test
+    public void givenAFullConcurrencyLimit_whenCallExecute_thenRejectWithConcurrencyLimited() {
+        final var limit = AimdConcurrencyLimit.create(1, 1, 10, Duration.ofSeconds(1));
+        final var controller = AdmissionController.builder()
+                .concurrencyLimit(Operation.LIST, limit)
+                .build();
+
+        final var exception = Assertions.assertThrows(
+                AdmissionRejectedException.class,
+                () -> controller.execute(Operation.LIST, () -> controller.execute(Operation.LIST, () -> "nested"))
+        );
+
+        Assertions.assertEquals(AdmissionRejectedException.Reason.CONCURRENCY_LIMITED, exception.getReason());
+        Assertions.assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    public void givenAnAimdLimit_whenLatencyExceedsTheTarget_thenDecreaseAndRecoverTheLimit() {
+        final var limit = AimdConcurrencyLimit.create(10, 2, 20, Duration.ofMillis(10));
+
+        for (int i = 0; i < 30; i++) {
+            Assertions.assertTrue(limit.tryAcquire());
+            limit.release(Duration.ofMillis(50).toNanos(), false);
+        }
+
+        Assertions.assertEquals(2, limit.getLimit());
+
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertTrue(limit.tryAcquire());
+            limit.release(Duration.ofMillis(1).toNanos(), false);
+        }
+
+        Assertions.assertTrue(limit.getLimit() > 2);
+    }
+
+    @Test
+    public void givenUseCasesThatThrow_whenCallExecute_thenOnlyBackOffOnClassifiedFailures() {
+        final var limit = AimdConcurrencyLimit.create(10, 1, 20, Duration.ofSeconds(1));
+        final var controller = AdmissionController.builder()
+                .concurrencyLimit(Operation.CREATE, limit)
+                .build();
+
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertThrows(
+                    DomainException.class,
+                    () -> controller.execute(Operation.CREATE, () -> {
+                        throw DomainException.with(new Error("'name' should not be null"));
+                    })
+            );
+        }
+
+        final var grown = limit.getLimit();
+
+        Assertions.assertTrue(grown > 10);
+
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> controller.execute(Operation.CREATE, () -> {
+                    throw new IllegalStateException("store unavailable");
+                })
+        );
+
+        Assertions.assertTrue(limit.getLimit() < grown);
+        Assertions.assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    public void givenAFullConcurrencyLimit_whenCallExecute_thenKeepTheRateToken() {
+        final var now = new AtomicLong();
+        final var limit = AimdConcurrencyLimit.create(1, 1, 10, Duration.ofSeconds(1));
+        final var controller = AdmissionController.builder()
+                .rateLimit(Operation.UPDATE, TokenBucket.create(1, 2, now::get))
+                .concurrencyLimit(Operation.UPDATE, limit)
+                .build();
+
+        final var nested = controller.execute(Operation.UPDATE, () -> Assertions.assertThrows(
+                AdmissionRejectedException.class,
+                () -> controller.execute(Operation.UPDATE, () -> "nested")
+        ));
+
+        Assertions.assertEquals(AdmissionRejectedException.Reason.CONCURRENCY_LIMITED, nested.getReason());
+        Assertions.assertEquals("ok", controller.execute(Operation.UPDATE, () -> "ok"));
+
+        final var rejected = Assertions.assertThrows(
+                AdmissionRejectedException.class,
+                () -> controller.execute(Operation.UPDATE, () -> "ok")
+        );
+
+        Assertions.assertEquals(AdmissionRejectedException.Reason.RATE_LIMITED, rejected.getReason());
+        Assertions.assertEquals(0, limit.getInFlight());
+    }
+}
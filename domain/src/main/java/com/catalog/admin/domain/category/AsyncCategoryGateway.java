@@ -0,0 +1,44 @@
+package com.catalog.admin.domain.category;
+
+import com.catalog.admin.domain.pagination.Pagination;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public interface AsyncCategoryGateway {
+
+    CompletableFuture<Pagination<Category>> findAll(CategorySearchQuery query);
+    CompletableFuture<Category> create(Category category);
+    CompletableFuture<Category> update(Category category);
+    CompletableFuture<Optional<Category>> findById(CategoryId id);
+    CompletableFuture<Void> deleteById(CategoryId id);
+
+    // Issues every lookup before waiting on any of them, so a backend that
+    // pipelines requests serves the whole batch in about one round trip.
+    default CompletableFuture<List<Optional<Category>>> findAllById(final List<CategoryId> ids) {
+        final var futures = new ArrayList<CompletableFuture<Optional<Category>>>(ids.size());
+
+        for (final var id : ids) {
+            futures.add(findById(id));
+        }
+
+        return CompletableFuture
+                .allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    final var results = new ArrayList<Optional<Category>>(futures.size());
+
+                    for (final var future : futures) {
+                        results.add(future.join());
+                    }
+
+                    return results;
+                });
+    }
+
+    static AsyncCategoryGateway from(final CategoryGateway gateway, final Executor executor) {
+        return new AsyncCategoryGatewayAdapter(gateway, executor);
+    }
+}
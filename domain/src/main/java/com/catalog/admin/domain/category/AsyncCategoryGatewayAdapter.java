@@ -0,0 +1,44 @@
+package com.catalog.admin.domain.category;
+
+import com.catalog.admin.domain.pagination.Pagination;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+final class AsyncCategoryGatewayAdapter implements AsyncCategoryGateway {
+
+    private final CategoryGateway gateway;
+    private final Executor executor;
+
+    AsyncCategoryGatewayAdapter(final CategoryGateway gateway, final Executor executor) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' must not be null");
+        this.executor = Objects.requireNonNull(executor, "'executor' must not be null");
+    }
+
+    @Override
+    public CompletableFuture<Pagination<Category>> findAll(final CategorySearchQuery query) {
+        return CompletableFuture.supplyAsync(() -> this.gateway.findAll(query), this.executor);
+    }
+
+    @Override
+    public CompletableFuture<Category> create(final Category category) {
+        return CompletableFuture.supplyAsync(() -> this.gateway.create(category), this.executor);
+    }
+
+    @Override
+    public CompletableFuture<Category> update(final Category category) {
+        return CompletableFuture.supplyAsync(() -> this.gateway.update(category), this.executor);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Category>> findById(final CategoryId id) {
+        return CompletableFuture.supplyAsync(() -> this.gateway.findById(id), this.executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteById(final CategoryId id) {
+        return CompletableFuture.runAsync(() -> this.gateway.deleteById(id), this.executor);
+    }
+}
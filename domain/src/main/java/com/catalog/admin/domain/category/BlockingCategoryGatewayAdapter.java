@@ -0,0 +1,60 @@
+package com.catalog.admin.domain.category;
+
+import com.catalog.admin.domain.pagination.Pagination;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+final class BlockingCategoryGatewayAdapter implements CategoryGateway {
+
+    private final AsyncCategoryGateway gateway;
+
+    BlockingCategoryGatewayAdapter(final AsyncCategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' must not be null");
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return await(this.gateway.findAll(query));
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return await(this.gateway.create(category));
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return await(this.gateway.update(category));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return await(this.gateway.findById(id));
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        await(this.gateway.deleteById(id));
+    }
+
+    // Rethrows what the backend threw rather than the CompletionException
+    // wrapper, so callers see the same exceptions as with a blocking gateway.
+    private static <T> T await(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+
+            throw ex;
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.catalog.admin.domain.category;
 
 import com.catalog.admin.domain.seedworks.AggregateRoot;
 import com.catalog.admin.domain.validation.ValidationHandler;
+import com.catalog.admin.domain.validation.ValidationResult;
 
+import java.time.Clock;
 import java.time.Instant;
 
 public class Category extends AggregateRoot<CategoryId> {
@@ -13,6 +15,7 @@ public class Category extends AggregateRoot<CategoryId> {
     final private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private CategoryId parentId;
 
     private Category (
             final CategoryId id,
@@ -21,7 +24,8 @@ public class Category extends AggregateRoot<CategoryId> {
             final boolean isActive,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final CategoryId parentId
     ) {
         super(id);
         this.name = name;
@@ -30,15 +34,35 @@ public class Category extends AggregateRoot<CategoryId> {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.parentId = parentId;
     }
 
     public static Category create(
             final String name,
             final String description,
             final boolean isActive
+    ) {
+        return create(name, description, isActive, Clock.systemUTC());
+    }
+
+    public static Category create(
+            final String name,
+            final String description,
+            final boolean isActive,
+            final Clock clock
+    ) {
+        return create(name, description, isActive, null, clock);
+    }
+
+    public static Category create(
+            final String name,
+            final String description,
+            final boolean isActive,
+            final CategoryId parentId,
+            final Clock clock
     ) {
         final var id = CategoryId.create();
-        final var now = Instant.now();
+        final var now = clock.instant();
         final var deletedAt = isActive ? null : now;
 
         return new Category(
@@ -48,7 +72,64 @@ public class Category extends AggregateRoot<CategoryId> {
                 isActive,
                 now,
                 now,
-                deletedAt
+                deletedAt,
+                parentId
+        );
+    }
+
+    public static Category with(
+            final CategoryId id,
+            final String name,
+            final String description,
+            final boolean isActive,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt
+    ) {
+        return with(
+                id,
+                name,
+                description,
+                isActive,
+                createdAt,
+                updatedAt,
+                deletedAt,
+                null
+        );
+    }
+
+    public static Category with(
+            final CategoryId id,
+            final String name,
+            final String description,
+            final boolean isActive,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt,
+            final CategoryId parentId
+    ) {
+        return new Category(
+                id,
+                name,
+                description,
+                isActive,
+                createdAt,
+                updatedAt,
+                deletedAt,
+                parentId
+        );
+    }
+
+    public static Category with(final Category category) {
+        return with(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.getIsActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt(),
+                category.getParentId()
         );
     }
 
@@ -57,8 +138,19 @@ public class Category extends AggregateRoot<CategoryId> {
             final String description,
             final boolean isActive
     ) {
-        if (isActive) activate();
-        else deactivate();
+        return update(name, description, isActive, Clock.systemUTC());
+    }
+
+    public Category update(
+            final String name,
+            final String description,
+            final boolean isActive,
+            final Clock clock
+    ) {
+        final var now = clock.instant();
+
+        if (isActive) activate(now);
+        else deactivate(now);
 
         this.name = name;
         this.description = description;
@@ -67,17 +159,40 @@ public class Category extends AggregateRoot<CategoryId> {
         return this;
     }
 
+    public Category changeParent(final CategoryId parentId) {
+        return changeParent(parentId, Clock.systemUTC());
+    }
+
+    public Category changeParent(final CategoryId parentId, final Clock clock) {
+        this.parentId = parentId;
+        this.updatedAt = clock.instant();
+
+        return this;
+    }
+
     public void activate() {
-        final var now = Instant.now();
+        activate(Clock.systemUTC());
+    }
+
+    public void activate(final Clock clock) {
+        activate(clock.instant());
+    }
 
+    public void deactivate() {
+        deactivate(Clock.systemUTC());
+    }
+
+    public void deactivate(final Clock clock) {
+        deactivate(clock.instant());
+    }
+
+    private void activate(final Instant now) {
         this.isActive = true;
         this.updatedAt = now;
         this.deletedAt = null;
     }
 
-    public void deactivate() {
-        final var now = Instant.now();
-
+    private void deactivate(final Instant now) {
         this.isActive = false;
         this.updatedAt = now;
 
@@ -91,6 +206,14 @@ public class Category extends AggregateRoot<CategoryId> {
         new CategoryValidator(this, handler).validate();
     }
 
+    public void validate(final ValidationHandler handler, final CategoryHierarchy hierarchy) {
+        new CategoryValidator(this, handler, hierarchy).validate();
+    }
+
+    public ValidationResult check() {
+        return CategoryValidator.check(this);
+    }
+
     public CategoryId getId() {
         return id;
     }
@@ -118,4 +241,8 @@ public class Category extends AggregateRoot<CategoryId> {
     public Instant getDeletedAt() {
         return deletedAt;
     }
+
+    public CategoryId getParentId() {
+        return parentId;
+    }
 }
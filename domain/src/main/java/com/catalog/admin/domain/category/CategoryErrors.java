@@ -0,0 +1,36 @@
+package com.catalog.admin.domain.category;
+
+import com.catalog.admin.domain.validation.ErrorCode;
+
+public final class CategoryErrors {
+
+    public static final ErrorCode NAME_NULL = ErrorCode.of(
+            "category.name.null",
+            "'name' should not be null"
+    );
+
+    public static final ErrorCode NAME_EMPTY = ErrorCode.of(
+            "category.name.empty",
+            "'name' should not be empty"
+    );
+
+    public static final ErrorCode NAME_LENGTH = ErrorCode.of(
+            "category.name.length",
+            "'name' must be between {0} and {1} characters",
+            CategoryValidator.NAME_MIN_LENGTH,
+            CategoryValidator.NAME_MAX_LENGTH
+    );
+
+    public static final ErrorCode PARENT_SELF = ErrorCode.of(
+            "category.parent.self",
+            "'parentId' must not reference the category itself"
+    );
+
+    public static final ErrorCode PARENT_CYCLE = ErrorCode.of(
+            "category.parent.cycle",
+            "'parentId' must not reference a descendant of the category"
+    );
+
+    private CategoryErrors() {
+    }
+}
@@ -12,5 +12,7 @@ public interface CategoryGateway {
     Optional<Category> findById(CategoryId id);
     void deleteById(CategoryId id);
 
-
+    static CategoryGateway from(final AsyncCategoryGateway gateway) {
+        return new BlockingCategoryGatewayAdapter(gateway);
+    }
 }
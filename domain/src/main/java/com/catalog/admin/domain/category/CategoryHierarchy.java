@@ -0,0 +1,6 @@
+package com.catalog.admin.domain.category;
+
+public interface CategoryHierarchy {
+
+    boolean isDescendant(CategoryId candidate, CategoryId ancestor);
+}
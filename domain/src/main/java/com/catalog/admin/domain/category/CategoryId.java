@@ -27,6 +27,10 @@ public class CategoryId extends Identifier {
         return new CategoryId(anId.toString().toLowerCase());
     }
 
+    public String getValue() {
+        return value;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
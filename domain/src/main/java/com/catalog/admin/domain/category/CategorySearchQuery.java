@@ -6,5 +6,18 @@ public record CategorySearchQuery(
         int total,
         String terms,
         String sort,
-        String direction
-) {}
+        String direction,
+        CategoryId subtreeOf
+) {
+
+    public CategorySearchQuery(
+            final int page,
+            final int limit,
+            final int total,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, limit, total, terms, sort, direction, null);
+    }
+}
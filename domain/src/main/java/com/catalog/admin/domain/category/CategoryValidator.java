@@ -1,54 +1,74 @@
 package com.catalog.admin.domain.category;
 
-import com.catalog.admin.domain.validation.Error;
+import com.catalog.admin.domain.validation.ValidationResult;
 import com.catalog.admin.domain.validation.Validator;
 import com.catalog.admin.domain.validation.ValidationHandler;
+import com.catalog.admin.domain.validation.rules.RuleSet;
+
+import java.util.List;
 
 public class CategoryValidator extends Validator {
 
-    private static final int NAME_MIN_LENGTH = 3;
-    private static final int NAME_MAX_LENGTH = 255;
+    static final int NAME_MIN_LENGTH = 3;
+    static final int NAME_MAX_LENGTH = 255;
+
+    private static final RuleSet<Category> RULES = RuleSet.<Category>builder()
+            .stringField(Category::getName)
+                .notNull(CategoryErrors.NAME_NULL)
+                .notBlank(CategoryErrors.NAME_EMPTY)
+                .trimmedLength(NAME_MIN_LENGTH, NAME_MAX_LENGTH, CategoryErrors.NAME_LENGTH)
+            .and()
+            .check(
+                    category -> !category.getId().equals(category.getParentId()),
+                    CategoryErrors.PARENT_SELF
+            )
+            .build();
 
     private final Category category;
+    private final CategoryHierarchy hierarchy;
 
     protected CategoryValidator(
             final Category category,
             final ValidationHandler handler
+    ) {
+        this(category, handler, null);
+    }
+
+    protected CategoryValidator(
+            final Category category,
+            final ValidationHandler handler,
+            final CategoryHierarchy hierarchy
     ) {
         super(handler);
         this.category = category;
+        this.hierarchy = hierarchy;
     }
 
-    @Override
-    public void validate() {
-        checkNameConstrains();
+    public static ValidationResult check(final Category category) {
+        return RULES.check(category);
     }
 
-    private void checkNameConstrains() {
-        final var name = this.category.getName();
-
-        if (name == null) {
-            this.validationHandler().append(
-                    new Error("'name' should not be null")
-            );
+    public static List<ValidationResult> checkAll(final List<Category> categories) {
+        return RULES.checkAll(categories);
+    }
 
-            return;
-        }
+    @Override
+    public void validate() {
+        RULES.validate(this.category, this.validationHandler());
+        checkParentCycle();
+    }
 
-        if (name.isBlank()) {
-            this.validationHandler().append(
-                    new Error("'name' should not be empty")
-            );
+    // A parent inside the category's own subtree would close a cycle; that
+    // needs the hierarchy, so it is only checked when one is given.
+    private void checkParentCycle() {
+        final var parentId = this.category.getParentId();
 
+        if (this.hierarchy == null || parentId == null) {
             return;
         }
 
-        final var nameLength = name.trim().length();
-
-        if (nameLength < NAME_MIN_LENGTH || nameLength > NAME_MAX_LENGTH) {
-            this.validationHandler().append(
-                    new Error("'name' must be between 3 and 255 characters")
-            );
+        if (this.hierarchy.isDescendant(parentId, this.category.getId())) {
+            this.validationHandler().append(CategoryErrors.PARENT_CYCLE.error());
         }
     }
 }
@@ -0,0 +1,93 @@
+package com.catalog.admin.domain.clock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Serves the last instant published by a ticker thread, so hot paths read a
+// volatile field instead of querying the system clock on every call. Reads
+// can lag the source by up to one resolution.
+public final class CoarseClock extends Clock implements AutoCloseable {
+
+    private final Ticker ticker;
+    private final ZoneId zone;
+
+    private CoarseClock(final Ticker ticker, final ZoneId zone) {
+        this.ticker = ticker;
+        this.zone = zone;
+    }
+
+    public static CoarseClock start(final Duration resolution) {
+        return start(Clock.systemUTC(), resolution);
+    }
+
+    public static CoarseClock start(final Clock source, final Duration resolution) {
+        Objects.requireNonNull(source, "'source' must not be null");
+        Objects.requireNonNull(resolution, "'resolution' must not be null");
+
+        if (resolution.isNegative() || resolution.isZero()) {
+            throw new IllegalArgumentException("'resolution' must be positive");
+        }
+
+        return new CoarseClock(new Ticker(source, resolution), ZoneOffset.UTC);
+    }
+
+    @Override
+    public Instant instant() {
+        return this.ticker.now;
+    }
+
+    @Override
+    public long millis() {
+        return this.ticker.now.toEpochMilli();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return this.zone;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+        if (this.zone.equals(zone)) {
+            return this;
+        }
+
+        return new CoarseClock(this.ticker, zone);
+    }
+
+    @Override
+    public void close() {
+        this.ticker.executor.shutdownNow();
+    }
+
+    private static final class Ticker {
+
+        private final Clock source;
+        private final ScheduledExecutorService executor;
+        private volatile Instant now;
+
+        private Ticker(final Clock source, final Duration resolution) {
+            this.source = source;
+            this.now = source.instant();
+            this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final var thread = new Thread(runnable, "coarse-clock-ticker");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            final var period = resolution.toNanos();
+            this.executor.scheduleAtFixedRate(this::tick, period, period, TimeUnit.NANOSECONDS);
+        }
+
+        private void tick() {
+            this.now = this.source.instant();
+        }
+    }
+}
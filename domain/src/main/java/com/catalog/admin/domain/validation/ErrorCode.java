@@ -0,0 +1,106 @@
+package com.catalog.admin.domain.validation;
+
+import java.util.Objects;
+
+// Catalog entry for a validation failure: a stable code plus a message
+// template with {0}, {1}... placeholders. The Error and ValidationResult for
+// the template are built once, so a failure without runtime arguments
+// allocates nothing.
+public final class ErrorCode {
+
+    private final String code;
+    private final String template;
+    private final Error error;
+    private final ValidationResult result;
+
+    private ErrorCode(final String code, final String template) {
+        this.code = Objects.requireNonNull(code, "'code' must not be null");
+        this.template = Objects.requireNonNull(template, "'template' must not be null");
+        this.error = new Error(code, template);
+        this.result = ValidationResult.failure(this);
+    }
+
+    public static ErrorCode of(final String code, final String template) {
+        return new ErrorCode(code, template);
+    }
+
+    // Fixes the template arguments at definition time, e.g. limits that are
+    // constants of the validator.
+    public static ErrorCode of(final String code, final String template, final Object... arguments) {
+        return new ErrorCode(code, render(template, arguments));
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public String template() {
+        return template;
+    }
+
+    public Error error() {
+        return error;
+    }
+
+    public Error error(final Object... arguments) {
+        if (arguments == null || arguments.length == 0) {
+            return error;
+        }
+
+        return new Error(code, render(template, arguments));
+    }
+
+    public ValidationResult result() {
+        return result;
+    }
+
+    static String render(final String template, final Object[] arguments) {
+        if (arguments == null || arguments.length == 0) {
+            return template;
+        }
+
+        final var rendered = new StringBuilder(template.length() + 16 * arguments.length);
+        int i = 0;
+
+        while (i < template.length()) {
+            final var c = template.charAt(i);
+            final var close = c == '{' ? template.indexOf('}', i) : -1;
+
+            if (close > i + 1) {
+                final var index = parseIndex(template, i + 1, close);
+
+                if (index >= 0 && index < arguments.length) {
+                    rendered.append(arguments[index]);
+                    i = close + 1;
+                    continue;
+                }
+            }
+
+            rendered.append(c);
+            i++;
+        }
+
+        return rendered.toString();
+    }
+
+    private static int parseIndex(final String template, final int from, final int to) {
+        int index = 0;
+
+        for (int i = from; i < to; i++) {
+            final var digit = template.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+
+            index = index * 10 + digit;
+        }
+
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+}
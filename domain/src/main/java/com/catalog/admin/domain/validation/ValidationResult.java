@@ -0,0 +1,63 @@
+package com.catalog.admin.domain.validation;
+
+import com.catalog.admin.domain.exceptions.DomainException;
+
+import java.util.List;
+
+// Outcome of a check that reports its first failure as a value instead of
+// throwing. Arguments are kept as given and only rendered into a message
+// when error() or errors() is called.
+public final class ValidationResult {
+
+    private static final ValidationResult VALID = new ValidationResult(null, null);
+
+    private final ErrorCode code;
+    private final Object[] arguments;
+
+    private ValidationResult(final ErrorCode code, final Object[] arguments) {
+        this.code = code;
+        this.arguments = arguments;
+    }
+
+    public static ValidationResult valid() {
+        return VALID;
+    }
+
+    public static ValidationResult invalid(final ErrorCode code) {
+        return code.result();
+    }
+
+    public static ValidationResult invalid(final ErrorCode code, final Object... arguments) {
+        return new ValidationResult(code, arguments);
+    }
+
+    static ValidationResult failure(final ErrorCode code) {
+        return new ValidationResult(code, null);
+    }
+
+    public boolean isValid() {
+        return code == null;
+    }
+
+    public ErrorCode code() {
+        return code;
+    }
+
+    public Error error() {
+        if (code == null) {
+            return null;
+        }
+
+        return code.error(arguments);
+    }
+
+    public List<Error> errors() {
+        return code == null ? List.of() : List.of(error());
+    }
+
+    public void throwIfInvalid() {
+        if (code != null) {
+            throw DomainException.with(error());
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.catalog.admin.domain.validation.rules;
+
+import com.catalog.admin.domain.validation.ErrorCode;
+import com.catalog.admin.domain.validation.ValidationHandler;
+import com.catalog.admin.domain.validation.ValidationResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+// Declarative validation compiled once into parallel arrays: one accessor per
+// field group and a flat run of (test, error) pairs per group. Evaluation is a
+// plain loop over those arrays; within a group the first failing test wins,
+// mirroring the early returns of a hand-written validator.
+public final class RuleSet<T> {
+
+    private final Function<T, Object>[] accessors;
+    private final int[] groupEnds;
+    private final Predicate<Object>[] tests;
+    private final ErrorCode[] codes;
+
+    private RuleSet(
+            final Function<T, Object>[] accessors,
+            final int[] groupEnds,
+            final Predicate<Object>[] tests,
+            final ErrorCode[] codes
+    ) {
+        this.accessors = accessors;
+        this.groupEnds = groupEnds;
+        this.tests = tests;
+        this.codes = codes;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    // First failure of the first failing group, without allocating.
+    public ValidationResult check(final T target) {
+        var test = 0;
+
+        for (int group = 0; group < this.accessors.length; group++) {
+            final var value = this.accessors[group].apply(target);
+            final var end = this.groupEnds[group];
+
+            for (; test < end; test++) {
+                if (!this.tests[test].test(value)) {
+                    return this.codes[test].result();
+                }
+            }
+        }
+
+        return ValidationResult.valid();
+    }
+
+    // Appends the first failure of every failing group to the handler.
+    public void validate(final T target, final ValidationHandler handler) {
+        var start = 0;
+
+        for (int group = 0; group < this.accessors.length; group++) {
+            final var value = this.accessors[group].apply(target);
+            final var end = this.groupEnds[group];
+
+            for (int test = start; test < end; test++) {
+                if (!this.tests[test].test(value)) {
+                    handler.append(this.codes[test].error());
+                    break;
+                }
+            }
+
+            start = end;
+        }
+    }
+
+    // Same outcome as calling check on each target, evaluated column by
+    // column: every value of a field is read, then each test of the group
+    // runs over the whole column, skipping targets that already failed.
+    public List<ValidationResult> checkAll(final List<T> targets) {
+        final var size = targets.size();
+        final var results = new ValidationResult[size];
+        final var column = new Object[size];
+        var start = 0;
+
+        for (int group = 0; group < this.accessors.length; group++) {
+            final var accessor = this.accessors[group];
+            final var end = this.groupEnds[group];
+
+            for (int i = 0; i < size; i++) {
+                column[i] = results[i] == null ? accessor.apply(targets.get(i)) : null;
+            }
+
+            for (int test = start; test < end; test++) {
+                final var predicate = this.tests[test];
+                final var result = this.codes[test].result();
+
+                for (int i = 0; i < size; i++) {
+                    if (results[i] == null && !predicate.test(column[i])) {
+                        results[i] = result;
+                    }
+                }
+            }
+
+            start = end;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (results[i] == null) {
+                results[i] = ValidationResult.valid();
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    public static final class Builder<T> {
+
+        private final List<Function<T, Object>> accessors = new ArrayList<>();
+        private final List<Integer> groupEnds = new ArrayList<>();
+        private final List<Predicate<Object>> tests = new ArrayList<>();
+        private final List<ErrorCode> codes = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public <V> FieldRules<T, V> field(final Function<T, V> accessor) {
+            openGroup(accessor);
+            return new FieldRules<>(this);
+        }
+
+        public StringRules<T> stringField(final Function<T, String> accessor) {
+            openGroup(accessor);
+            return new StringRules<>(this);
+        }
+
+        @SuppressWarnings("unchecked")
+        public Builder<T> check(final Predicate<T> predicate, final ErrorCode code) {
+            Objects.requireNonNull(predicate, "'predicate' must not be null");
+
+            closeGroup();
+            this.accessors.add(target -> target);
+            add(value -> predicate.test((T) value), code);
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public RuleSet<T> build() {
+            closeGroup();
+
+            final var ends = new int[this.groupEnds.size()];
+
+            for (int i = 0; i < ends.length; i++) {
+                ends[i] = this.groupEnds.get(i);
+            }
+
+            return new RuleSet<>(
+                    this.accessors.toArray(Function[]::new),
+                    ends,
+                    this.tests.toArray(Predicate[]::new),
+                    this.codes.toArray(ErrorCode[]::new)
+            );
+        }
+
+        private void add(final Predicate<Object> test, final ErrorCode code) {
+            this.tests.add(test);
+            this.codes.add(Objects.requireNonNull(code, "'code' must not be null"));
+        }
+
+        @SuppressWarnings("unchecked")
+        private void openGroup(final Function<T, ?> accessor) {
+            closeGroup();
+            this.accessors.add((Function<T, Object>) Objects.requireNonNull(accessor, "'accessor' must not be null"));
+        }
+
+        private void closeGroup() {
+            if (this.groupEnds.size() < this.accessors.size()) {
+                this.groupEnds.add(this.tests.size());
+            }
+        }
+    }
+
+    // Rules over one field of any type. Only notNull rejects null; the other
+    // rules pass on null so they can be combined freely.
+    public static class FieldRules<T, V> {
+
+        final Builder<T> builder;
+
+        private FieldRules(final Builder<T> builder) {
+            this.builder = builder;
+        }
+
+        public FieldRules<T, V> notNull(final ErrorCode code) {
+            this.builder.add(Objects::nonNull, code);
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public FieldRules<T, V> check(final Predicate<V> predicate, final ErrorCode code) {
+            Objects.requireNonNull(predicate, "'predicate' must not be null");
+
+            this.builder.add(value -> value == null || predicate.test((V) value), code);
+            return this;
+        }
+
+        public <U> FieldRules<T, U> field(final Function<T, U> accessor) {
+            return this.builder.field(accessor);
+        }
+
+        public StringRules<T> stringField(final Function<T, String> accessor) {
+            return this.builder.stringField(accessor);
+        }
+
+        public Builder<T> and() {
+            return this.builder;
+        }
+
+        public RuleSet<T> build() {
+            return this.builder.build();
+        }
+    }
+
+    // The String specialization of FieldRules, adding text rules.
+    public static final class StringRules<T> extends FieldRules<T, String> {
+
+        private StringRules(final Builder<T> builder) {
+            super(builder);
+        }
+
+        @Override
+        public StringRules<T> notNull(final ErrorCode code) {
+            super.notNull(code);
+            return this;
+        }
+
+        @Override
+        public StringRules<T> check(final Predicate<String> predicate, final ErrorCode code) {
+            super.check(predicate, code);
+            return this;
+        }
+
+        public StringRules<T> notBlank(final ErrorCode code) {
+            this.builder.add(value -> value == null || !((String) value).isBlank(), code);
+            return this;
+        }
+
+        public StringRules<T> trimmedLength(final int min, final int max, final ErrorCode code) {
+            if (min < 0 || min > max) {
+                throw new IllegalArgumentException("'min' and 'max' must satisfy 0 <= min <= max");
+            }
+
+            this.builder.add(value -> {
+                if (value == null) {
+                    return true;
+                }
+
+                final var length = ((String) value).trim().length();
+                return length >= min && length <= max;
+            }, code);
+            return this;
+        }
+
+        public StringRules<T> pattern(final Pattern pattern, final ErrorCode code) {
+            Objects.requireNonNull(pattern, "'pattern' must not be null");
+
+            this.builder.add(value -> value == null || pattern.matcher((String) value).matches(), code);
+            return this;
+        }
+
+    }
+}
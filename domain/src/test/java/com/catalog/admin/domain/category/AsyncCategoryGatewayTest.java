@@ -0,0 +1,108 @@
+package com.catalog.admin.domain.category;
+
+import com.catalog.admin.domain.exceptions.DomainException;
+import com.catalog.admin.domain.pagination.Pagination;
+import com.catalog.admin.domain.validation.Error;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+public class AsyncCategoryGatewayTest {
+
+    @Test
+    public void givenABlockingGateway_whenCallFindAllById_thenReturnEveryLookupInOrder() {
+        final var gateway = new MapCategoryGateway();
+        final var first = gateway.create(Category.create("First category", "", true));
+        final var second = gateway.create(Category.create("Second category", "", true));
+        final var missing = CategoryId.create();
+        final var executor = Executors.newFixedThreadPool(2);
+
+        try {
+            final var asyncGateway = AsyncCategoryGateway.from(gateway, executor);
+
+            final var results = asyncGateway
+                    .findAllById(List.of(first.getId(), missing, second.getId()))
+                    .join();
+
+            Assertions.assertEquals(3, results.size());
+            Assertions.assertEquals(first, results.get(0).orElseThrow());
+            Assertions.assertTrue(results.get(1).isEmpty());
+            Assertions.assertEquals(second, results.get(2).orElseThrow());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void givenAnAsyncGatewayThatFails_whenCallThroughTheBlockingAdapter_thenRethrowTheOriginalException() {
+        final var expected = DomainException.with(new Error("storage unavailable"));
+        final var failing = new MapCategoryGateway() {
+            @Override
+            public Optional<Category> findById(final CategoryId id) {
+                throw expected;
+            }
+        };
+
+        final var gateway = CategoryGateway.from(AsyncCategoryGateway.from(failing, Runnable::run));
+
+        final var exception = Assertions.assertThrows(
+                DomainException.class,
+                () -> gateway.findById(CategoryId.create())
+        );
+
+        Assertions.assertSame(expected, exception);
+    }
+
+    @Test
+    public void givenAnAsyncGateway_whenCallThroughTheBlockingAdapter_thenDelegateEveryOperation() {
+        final var backend = new MapCategoryGateway();
+        final var gateway = CategoryGateway.from(AsyncCategoryGateway.from(backend, Runnable::run));
+        final var category = gateway.create(Category.create("Category name", "", true));
+
+        Assertions.assertEquals(category, gateway.findById(category.getId()).orElseThrow());
+        Assertions.assertEquals(1, gateway.findAll(new CategorySearchQuery(0, 10, 0, "", "name", "asc")).total());
+
+        gateway.deleteById(category.getId());
+
+        Assertions.assertTrue(gateway.findById(category.getId()).isEmpty());
+    }
+
+    private static class MapCategoryGateway implements CategoryGateway {
+
+        private final Map<CategoryId, Category> categories = new ConcurrentHashMap<>();
+
+        @Override
+        public Pagination<Category> findAll(final CategorySearchQuery query) {
+            final var items = new ArrayList<>(this.categories.values());
+            return new Pagination<>(query.page(), query.limit(), items.size(), items);
+        }
+
+        @Override
+        public Category create(final Category category) {
+            this.categories.put(category.getId(), category);
+            return category;
+        }
+
+        @Override
+        public Category update(final Category category) {
+            return create(category);
+        }
+
+        @Override
+        public Optional<Category> findById(final CategoryId id) {
+            return Optional.ofNullable(this.categories.get(id));
+        }
+
+        @Override
+        public void deleteById(final CategoryId id) {
+            this.categories.remove(id);
+        }
+    }
+}
@@ -6,6 +6,10 @@ import com.catalog.admin.domain.validation.handler.ThrowsValidationHandler;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
 public class CategoryTest {
 
     @Test
@@ -490,4 +494,109 @@ public class CategoryTest {
                 exception.getErrors().get(0).message()
         );
     }
+
+    @Test
+    public void givenAValidCategory_whenCallWith_thenRebuildCategoryWithTheSameState() {
+        final var category = Category.create(
+                "Category name",
+                "Category description",
+                false);
+
+        final var rebuilt = Category.with(
+                CategoryId.from(category.getId().getValue()),
+                category.getName(),
+                category.getDescription(),
+                category.getIsActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt()
+        );
+
+        Assertions.assertEquals(category.getId(), rebuilt.getId());
+        Assertions.assertEquals(category.getName(), rebuilt.getName());
+        Assertions.assertEquals(category.getDescription(), rebuilt.getDescription());
+        Assertions.assertEquals(category.getIsActive(), rebuilt.getIsActive());
+        Assertions.assertSame(category.getCreatedAt(), rebuilt.getCreatedAt());
+        Assertions.assertSame(category.getUpdatedAt(), rebuilt.getUpdatedAt());
+        Assertions.assertSame(category.getDeletedAt(), rebuilt.getDeletedAt());
+    }
+
+    @Test
+    public void givenAFixedClock_whenCallCreateAndUpdate_thenStampWithTheClockInstant() {
+        final var createdAt = Instant.parse("2024-01-01T00:00:00Z");
+        final var updatedAt = Instant.parse("2024-01-02T00:00:00Z");
+
+        final var category = Category.create(
+                "Category name",
+                "Category description",
+                true,
+                Clock.fixed(createdAt, ZoneOffset.UTC));
+
+        Assertions.assertEquals(createdAt, category.getCreatedAt());
+        Assertions.assertEquals(createdAt, category.getUpdatedAt());
+
+        category.update(
+                "Category name after update",
+                "Category description after update",
+                false,
+                Clock.fixed(updatedAt, ZoneOffset.UTC));
+
+        Assertions.assertEquals(createdAt, category.getCreatedAt());
+        Assertions.assertEquals(updatedAt, category.getUpdatedAt());
+        Assertions.assertEquals(updatedAt, category.getDeletedAt());
+    }
+
+    @Test
+    public void givenAnInvalidName_whenCallCheck_thenReturnTheCatalogResultWithoutThrowing() {
+        final var valid = Category.create("Category name", "", true);
+        final var nullName = Category.create(null, "", true);
+        final var emptyName = Category.create(" ", "", true);
+        final var shortName = Category.create("Fe ", "", true);
+
+        Assertions.assertTrue(valid.check().isValid());
+        Assertions.assertSame(CategoryErrors.NAME_NULL.result(), nullName.check());
+        Assertions.assertSame(CategoryErrors.NAME_EMPTY.result(), emptyName.check());
+        Assertions.assertSame(CategoryErrors.NAME_LENGTH.result(), shortName.check());
+        Assertions.assertEquals(
+                "'name' must be between 3 and 255 characters",
+                shortName.check().error().message()
+        );
+        Assertions.assertEquals("category.name.length", shortName.check().error().code());
+    }
+
+    @Test
+    public void givenACategoryAsItsOwnParent_whenCallValidate_thenShouldThrowAException() {
+        final var category = Category.create("Category name", "", true);
+        category.changeParent(category.getId());
+
+        final var exception = Assertions.assertThrows(
+                DomainException.class,
+                () -> category.validate(new ThrowsValidationHandler())
+        );
+
+        Assertions.assertEquals("category.parent.self", exception.getErrors().get(0).code());
+        Assertions.assertSame(CategoryErrors.PARENT_SELF.result(), category.check());
+    }
+
+    @Test
+    public void givenAParentInsideTheSubtree_whenCallValidateWithTheHierarchy_thenShouldThrowAException() {
+        final var category = Category.create("Category name", "", true);
+        final var descendant = Category.create("Descendant name", "", true, category.getId(), Clock.systemUTC());
+        final CategoryHierarchy hierarchy = (candidate, ancestor) ->
+                candidate.equals(descendant.getId()) && ancestor.equals(category.getId());
+
+        category.changeParent(descendant.getId());
+
+        final var exception = Assertions.assertThrows(
+                DomainException.class,
+                () -> category.validate(new ThrowsValidationHandler(), hierarchy)
+        );
+
+        Assertions.assertEquals(
+                "'parentId' must not reference a descendant of the category",
+                exception.getErrors().get(0).message()
+        );
+        Assertions.assertDoesNotThrow(() -> category.validate(new ThrowsValidationHandler()));
+        Assertions.assertDoesNotThrow(() -> descendant.validate(new ThrowsValidationHandler(), hierarchy));
+    }
 }
\ No newline at end of file
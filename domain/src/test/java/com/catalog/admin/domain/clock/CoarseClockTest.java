@@ -0,0 +1,51 @@
+package com.catalog.admin.domain.clock;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public class CoarseClockTest {
+
+    @Test
+    public void givenAStartedCoarseClock_whenCallInstantRepeatedly_thenReturnTheCachedInstant() {
+        try (final var clock = CoarseClock.start(Duration.ofHours(1))) {
+            final var first = clock.instant();
+
+            Assertions.assertSame(first, clock.instant());
+            Assertions.assertEquals(first.toEpochMilli(), clock.millis());
+        }
+    }
+
+    @Test
+    public void givenAStartedCoarseClock_whenTheTickerRuns_thenAdvanceTheInstant() throws InterruptedException {
+        try (final var clock = CoarseClock.start(Duration.ofMillis(1))) {
+            final var first = clock.instant();
+            final var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+
+            while (!clock.instant().isAfter(first) && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            Assertions.assertTrue(clock.instant().isAfter(first));
+        }
+    }
+
+    @Test
+    public void givenANonPositiveResolution_whenCallStart_thenThrowAnException() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> CoarseClock.start(Duration.ZERO)
+        );
+    }
+
+    @Test
+    public void givenAnInstant_whenCallInstantOnTheSameTick_thenIsNotBeforeSource() {
+        final var before = Instant.now();
+
+        try (final var clock = CoarseClock.start(Duration.ofHours(1))) {
+            Assertions.assertFalse(clock.instant().isBefore(before));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.catalog.admin.domain.validation;
+
+import com.catalog.admin.domain.exceptions.DomainException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ErrorCodeTest {
+
+    @Test
+    public void givenAnErrorCodeWithoutArguments_whenCallError_thenReturnThePreallocatedError() {
+        final var code = ErrorCode.of("sample.null", "'sample' should not be null");
+
+        Assertions.assertSame(code.error(), code.error());
+        Assertions.assertSame(code.result(), ValidationResult.invalid(code));
+        Assertions.assertEquals("sample.null", code.error().code());
+        Assertions.assertEquals("'sample' should not be null", code.error().message());
+    }
+
+    @Test
+    public void givenDefinitionArguments_whenCallOf_thenRenderTheTemplateOnce() {
+        final var code = ErrorCode.of("sample.length", "'{0}' must be between {1} and {2}", "sample", 3, 255);
+
+        Assertions.assertEquals("'sample' must be between 3 and 255", code.error().message());
+    }
+
+    @Test
+    public void givenRuntimeArguments_whenCallInvalid_thenRenderOnlyWhenTheErrorIsRead() {
+        final var code = ErrorCode.of("sample.max", "'sample' must be at most {0}, got {1} {2}");
+        final var result = ValidationResult.invalid(code, 10, 12);
+
+        Assertions.assertFalse(result.isValid());
+        Assertions.assertSame(code, result.code());
+        Assertions.assertEquals("'sample' must be at most 10, got 12 {2}", result.error().message());
+        Assertions.assertEquals(1, result.errors().size());
+
+        final var exception = Assertions.assertThrows(DomainException.class, result::throwIfInvalid);
+
+        Assertions.assertEquals("sample.max", exception.getErrors().get(0).code());
+    }
+
+    @Test
+    public void givenAValidResult_whenCallErrors_thenReturnNoErrors() {
+        final var result = ValidationResult.valid();
+
+        Assertions.assertTrue(result.isValid());
+        Assertions.assertNull(result.error());
+        Assertions.assertTrue(result.errors().isEmpty());
+        Assertions.assertDoesNotThrow(result::throwIfInvalid);
+    }
+}
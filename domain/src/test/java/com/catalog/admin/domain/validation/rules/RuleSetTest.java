@@ -0,0 +1,141 @@
+package com.catalog.admin.domain.validation.rules;
+
+import com.catalog.admin.domain.exceptions.DomainException;
+import com.catalog.admin.domain.validation.Error;
+import com.catalog.admin.domain.validation.ErrorCode;
+import com.catalog.admin.domain.validation.ValidationHandler;
+import com.catalog.admin.domain.validation.ValidationResult;
+import com.catalog.admin.domain.validation.handler.ThrowsValidationHandler;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class RuleSetTest {
+
+    private static final ErrorCode CODE_NULL = ErrorCode.of("sample.code.null", "'code' should not be null");
+    private static final ErrorCode CODE_PATTERN = ErrorCode.of("sample.code.pattern", "'code' must be upper case");
+    private static final ErrorCode LABEL_LENGTH = ErrorCode.of("sample.label.length", "'label' is too long");
+    private static final ErrorCode SAME_VALUES = ErrorCode.of("sample.same", "'code' and 'label' must differ");
+
+    private static final RuleSet<Sample> RULES = RuleSet.<Sample>builder()
+            .stringField(Sample::code)
+                .notNull(CODE_NULL)
+                .pattern(Pattern.compile("[A-Z]+"), CODE_PATTERN)
+            .stringField(Sample::label)
+                .trimmedLength(0, 5, LABEL_LENGTH)
+            .and()
+            .check(sample -> sample.code() == null || !sample.code().equals(sample.label()), SAME_VALUES)
+            .build();
+
+    @Test
+    public void givenAValidTarget_whenCallCheck_thenReturnValid() {
+        Assertions.assertTrue(RULES.check(new Sample("ABC", "abc")).isValid());
+    }
+
+    @Test
+    public void givenAFieldFailingSeveralRules_whenCallCheck_thenReturnOnlyTheFirstFailure() {
+        Assertions.assertSame(CODE_NULL.result(), RULES.check(new Sample(null, "abc")));
+        Assertions.assertSame(CODE_PATTERN.result(), RULES.check(new Sample("abc", "abc")));
+        Assertions.assertSame(LABEL_LENGTH.result(), RULES.check(new Sample("ABC", "too long")));
+        Assertions.assertSame(SAME_VALUES.result(), RULES.check(new Sample("ABC", "ABC")));
+    }
+
+    @Test
+    public void givenATargetFailingSeveralGroups_whenCallValidate_thenAppendTheFirstFailureOfEachGroup() {
+        final var handler = new CollectingHandler();
+
+        RULES.validate(new Sample("abc", "far too long"), handler);
+
+        Assertions.assertEquals(List.of(CODE_PATTERN.error(), LABEL_LENGTH.error()), handler.getErrors());
+    }
+
+    @Test
+    public void givenAThrowsValidationHandler_whenCallValidate_thenThrowTheCatalogError() {
+        final var exception = Assertions.assertThrows(
+                DomainException.class,
+                () -> RULES.validate(new Sample(null, ""), new ThrowsValidationHandler())
+        );
+
+        Assertions.assertEquals("sample.code.null", exception.getErrors().get(0).code());
+    }
+
+    @Test
+    public void givenABatch_whenCallCheckAll_thenMatchCheckForEveryTarget() {
+        final var samples = List.of(
+                new Sample("ABC", "abc"),
+                new Sample(null, "far too long"),
+                new Sample("abc", "abc"),
+                new Sample("ABC", "too long"),
+                new Sample("ABC", "ABC")
+        );
+
+        final var results = RULES.checkAll(samples);
+
+        Assertions.assertEquals(samples.size(), results.size());
+
+        for (int i = 0; i < samples.size(); i++) {
+            Assertions.assertSame(RULES.check(samples.get(i)), results.get(i));
+        }
+
+        Assertions.assertSame(ValidationResult.valid(), results.get(0));
+    }
+
+    @Test
+    public void givenNonStringFields_whenCallCheck_thenApplyNotNullAndCustomRules() {
+        final var missing = ErrorCode.of("event.at.null", "'at' should not be null");
+        final var past = ErrorCode.of("event.at.past", "'at' must not be before the epoch");
+        final var negative = ErrorCode.of("event.count.negative", "'count' must not be negative");
+        final RuleSet<Event> rules = RuleSet.<Event>builder()
+                .field(Event::at)
+                    .notNull(missing)
+                    .check(at -> !at.isBefore(Instant.EPOCH), past)
+                .field(Event::count)
+                    .check(count -> count >= 0, negative)
+                .build();
+
+        Assertions.assertTrue(rules.check(new Event(Instant.EPOCH, 0)).isValid());
+        Assertions.assertTrue(rules.check(new Event(Instant.EPOCH, null)).isValid());
+        Assertions.assertSame(missing.result(), rules.check(new Event(null, 1)));
+        Assertions.assertSame(past.result(), rules.check(new Event(Instant.EPOCH.minusSeconds(1), 1)));
+        Assertions.assertSame(negative.result(), rules.check(new Event(Instant.EPOCH, -1)));
+    }
+
+    private record Sample(String code, String label) {
+    }
+
+    private record Event(Instant at, Integer count) {
+    }
+
+    private static class CollectingHandler implements ValidationHandler {
+
+        private final List<Error> errors = new ArrayList<>();
+
+        @Override
+        public ValidationHandler append(final Error error) {
+            this.errors.add(error);
+            return this;
+        }
+
+        @Override
+        public ValidationHandler append(final ValidationHandler handler) {
+            this.errors.addAll(handler.getErrors());
+            return this;
+        }
+
+        @Override
+        public ValidationHandler validate(final Validation validation) {
+            validation.validate();
+            return this;
+        }
+
+        @Override
+        public List<Error> getErrors() {
+            return this.errors;
+        }
+    }
+}
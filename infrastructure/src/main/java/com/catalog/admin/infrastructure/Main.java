@@ -1,10 +1,84 @@
 package com.catalog.admin.infrastructure;
 
-import com.catalog.admin.application.UseCase;
+import com.catalog.admin.infrastructure.boot.BootConfiguration;
+import com.catalog.admin.infrastructure.boot.BootSequence;
+import com.catalog.admin.infrastructure.category.persistence.ColdCategorySegment;
+import com.catalog.admin.infrastructure.category.persistence.TieredCategoryGateway;
+import com.catalog.admin.infrastructure.replication.FollowerReplica;
+import com.catalog.admin.infrastructure.replication.LeaderCategoryGateway;
+import com.catalog.admin.infrastructure.replication.ReplicationServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 
 public class Main {
     public static void main(String[] args) {
-        System.out.println("Hello world!");
-        System.out.println(new UseCase().execute());
+        final var gateway = TieredCategoryGateway.create(
+                ColdCategorySegment.open(coldSegmentPath()),
+                Duration.parse(System.getProperty("catalog.storage.max-inactive-age", "P30D"))
+        );
+
+        final var report = BootSequence.create(BootConfiguration.fromSystemProperties(), gateway).run();
+
+        System.out.println("Ready in " + report.total().toMillis() + " ms: "
+                + report.loaded() + " categories loaded, "
+                + report.replayed() + " changes replayed");
+
+        // catalog.replication.role=leader|follower with
+        // catalog.replication.address=host:port runs one node of a replicated
+        // set; several can share a machine over loopback.
+        switch (System.getProperty("catalog.replication.role", "standalone")) {
+            case "leader" -> {
+                final var server = ReplicationServer.start(LeaderCategoryGateway.wrap(gateway), replicationAddress());
+                System.out.println("Leader streaming changes on " + server.address());
+                awaitShutdown();
+            }
+            case "follower" -> {
+                final var replica = FollowerReplica.start(replicationAddress(), gateway);
+                System.out.println("Follower replicating from " + replicationAddress()
+                        + ", applied sequence " + replica.appliedSequence());
+                awaitShutdown();
+            }
+            default -> {
+            }
+        }
+    }
+
+    private static InetSocketAddress replicationAddress() {
+        final var address = System.getProperty("catalog.replication.address", "127.0.0.1:7400");
+        final var separator = address.lastIndexOf(':');
+
+        return new InetSocketAddress(
+                address.substring(0, separator),
+                Integer.parseInt(address.substring(separator + 1))
+        );
+    }
+
+    private static void awaitShutdown() {
+        try {
+            Thread.currentThread().join();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Path coldSegmentPath() {
+        final var configured = System.getProperty("catalog.storage.cold-segment");
+
+        if (configured != null) {
+            return Path.of(configured);
+        }
+
+        try {
+            final var path = Files.createTempFile("categories", ".cold");
+            path.toFile().deleteOnExit();
+            return path;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
     }
-}
\ No newline at end of file
+}
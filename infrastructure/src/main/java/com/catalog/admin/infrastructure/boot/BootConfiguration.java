@@ -0,0 +1,26 @@
+package com.catalog.admin.infrastructure.boot;
+
+import java.nio.file.Path;
+
+public record BootConfiguration(
+        Path snapshot,
+        Path changeLog,
+        int parallelism,
+        int warmupIterations
+) {
+
+    public static BootConfiguration fromSystemProperties() {
+        final var snapshot = System.getProperty("catalog.boot.snapshot");
+        final var changeLog = System.getProperty("catalog.boot.changelog");
+
+        return new BootConfiguration(
+                snapshot == null ? null : Path.of(snapshot),
+                changeLog == null ? null : Path.of(changeLog),
+                Integer.getInteger(
+                        "catalog.boot.parallelism",
+                        Runtime.getRuntime().availableProcessors()
+                ),
+                Integer.getInteger("catalog.boot.warmup-iterations", 10_000)
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.catalog.admin.infrastructure.boot;
+
+import java.time.Duration;
+
+public record BootReport(
+        int loaded,
+        long replayed,
+        long sequence,
+        Duration snapshotTime,
+        Duration replayTime,
+        Duration warmupTime
+) {
+
+    public Duration total() {
+        return snapshotTime.plus(replayTime).plus(warmupTime);
+    }
+}
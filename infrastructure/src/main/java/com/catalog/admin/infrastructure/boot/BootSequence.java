@@ -0,0 +1,138 @@
+package com.catalog.admin.infrastructure.boot;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.domain.category.CategoryGateway;
+import com.catalog.admin.domain.category.CategoryId;
+import com.catalog.admin.domain.category.CategorySearchQuery;
+import com.catalog.admin.domain.exceptions.DomainException;
+import com.catalog.admin.domain.validation.handler.ThrowsValidationHandler;
+import com.catalog.admin.infrastructure.category.changelog.CategoryChangeLog;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Brings a gateway to a ready state: loads the snapshot, replays the change
+// log written after it and exercises the read and validation paths so the
+// JIT has compiled them before the first real request arrives.
+public class BootSequence {
+
+    private static final System.Logger LOGGER = System.getLogger(BootSequence.class.getName());
+    private static final int WARMUP_SAMPLE_SIZE = 1_000;
+
+    private final BootConfiguration configuration;
+    private final CategoryGateway gateway;
+
+    private BootSequence(final BootConfiguration configuration, final CategoryGateway gateway) {
+        this.configuration = Objects.requireNonNull(configuration, "'configuration' must not be null");
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' must not be null");
+    }
+
+    public static BootSequence create(final BootConfiguration configuration, final CategoryGateway gateway) {
+        return new BootSequence(configuration, gateway);
+    }
+
+    public BootReport run() {
+        var start = System.nanoTime();
+        final var snapshot = loadSnapshot();
+        final var snapshotTime = phase("snapshot", start, snapshot.count());
+
+        start = System.nanoTime();
+        final var lastSequence = new AtomicLong(snapshot.sequence());
+        final var replayed = replayChanges(lastSequence);
+        final var replayTime = phase("replay", start, replayed);
+
+        start = System.nanoTime();
+        warmUp();
+        final var warmupTime = phase("warm-up", start, this.configuration.warmupIterations());
+
+        final var report = new BootReport(
+                snapshot.count(),
+                replayed,
+                lastSequence.get(),
+                snapshotTime,
+                replayTime,
+                warmupTime
+        );
+
+        LOGGER.log(System.Logger.Level.INFO, "ready in {0} ms", report.total().toMillis());
+        return report;
+    }
+
+    private CategorySnapshot loadSnapshot() {
+        final var path = this.configuration.snapshot();
+
+        if (path == null || !Files.exists(path)) {
+            return new CategorySnapshot(0, 0);
+        }
+
+        return CategorySnapshot.load(path, this.configuration.parallelism(), this.gateway::create);
+    }
+
+    private long replayChanges(final AtomicLong lastSequence) {
+        final var path = this.configuration.changeLog();
+
+        if (path == null) {
+            return 0;
+        }
+
+        return CategoryChangeLog.replay(path, lastSequence.get(), change -> {
+            change.applyTo(this.gateway);
+            lastSequence.set(change.sequence());
+        });
+    }
+
+    private void warmUp() {
+        final var iterations = this.configuration.warmupIterations();
+
+        if (iterations <= 0) {
+            return;
+        }
+
+        final var ids = sampleIds();
+        final var valid = Category.create("Warm-up category", "", true);
+        final var invalid = Category.create(" ", "", true);
+        final var handler = new ThrowsValidationHandler();
+        final var query = new CategorySearchQuery(0, 10, 0, "", "name", "asc");
+        final var search = new CategorySearchQuery(0, 10, 0, "warm", "createdAt", "desc");
+        final var missing = CategoryId.create();
+
+        for (int i = 0; i < iterations; i++) {
+            this.gateway.findById(ids.isEmpty() ? missing : ids.get(i % ids.size()));
+
+            if (i % 100 == 0) {
+                this.gateway.findAll(((i / 100) & 1) == 0 ? query : search);
+            }
+
+            valid.validate(handler);
+
+            try {
+                invalid.validate(handler);
+            } catch (final DomainException ignored) {
+                // the failure path is part of what is being warmed up
+            }
+        }
+    }
+
+    private List<CategoryId> sampleIds() {
+        final var page = this.gateway.findAll(
+                new CategorySearchQuery(0, WARMUP_SAMPLE_SIZE, 0, "", "name", "asc")
+        );
+        final var ids = new ArrayList<CategoryId>(page.items().size());
+
+        for (final var category : page.items()) {
+            ids.add(category.getId());
+        }
+
+        return ids;
+    }
+
+    private static Duration phase(final String name, final long startNanos, final long items) {
+        final var elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        LOGGER.log(System.Logger.Level.INFO, "boot phase {0}: {1} items in {2} ms", name, items, elapsed.toMillis());
+        return elapsed;
+    }
+}
@@ -0,0 +1,149 @@
+package com.catalog.admin.infrastructure.boot;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.infrastructure.codec.CategoryCodec;
+import com.catalog.admin.infrastructure.codec.CodecException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+// Point-in-time image of the category store. Layout:
+//   [magic int][version byte][last change sequence long][count int]
+//   [chunk count int][chunk offset long, chunk size int]...[records...]
+// The chunk table lets the loader decode the memory-mapped file in parallel
+// without scanning it first.
+public record CategorySnapshot(long sequence, int count) {
+
+    private static final int MAGIC = 0x43415453;
+    private static final byte VERSION = 1;
+    private static final int CHUNK_SIZE = 4096;
+    private static final int HEADER_SIZE = Integer.BYTES + 1 + Long.BYTES + Integer.BYTES * 2;
+    private static final int CHUNK_ENTRY_SIZE = Long.BYTES + Integer.BYTES;
+
+    public static CategorySnapshot write(
+            final Path path,
+            final List<Category> categories,
+            final long sequence
+    ) {
+        final var chunks = (categories.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final var tableSize = chunks * CHUNK_ENTRY_SIZE;
+        long recordsSize = 0;
+
+        for (final var category : categories) {
+            recordsSize += CategoryCodec.size(category);
+        }
+
+        try (final var channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        )) {
+            final var buffer = channel.map(
+                    FileChannel.MapMode.READ_WRITE,
+                    0,
+                    HEADER_SIZE + tableSize + recordsSize
+            );
+
+            buffer.putInt(MAGIC)
+                    .put(VERSION)
+                    .putLong(sequence)
+                    .putInt(categories.size())
+                    .putInt(chunks);
+
+            final var tableStart = buffer.position();
+            buffer.position(tableStart + tableSize);
+
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                final var from = chunk * CHUNK_SIZE;
+                final var to = Math.min(categories.size(), from + CHUNK_SIZE);
+
+                buffer.putLong(tableStart + chunk * CHUNK_ENTRY_SIZE, buffer.position());
+                buffer.putInt(tableStart + chunk * CHUNK_ENTRY_SIZE + Long.BYTES, to - from);
+
+                for (int i = from; i < to; i++) {
+                    CategoryCodec.encode(categories.get(i), buffer);
+                }
+            }
+
+            buffer.force();
+            return new CategorySnapshot(sequence, categories.size());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // Decodes the snapshot on `parallelism` threads, one chunk per task; the
+    // consumer must therefore be thread-safe.
+    public static CategorySnapshot load(
+            final Path path,
+            final int parallelism,
+            final Consumer<Category> consumer
+    ) {
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+                throw new CodecException("not a category snapshot");
+            }
+
+            final var version = buffer.get();
+
+            if (version != VERSION) {
+                throw new CodecException("unsupported snapshot version " + version);
+            }
+
+            final var sequence = buffer.getLong();
+            final var count = buffer.getInt();
+            final var chunks = buffer.getInt();
+            final var tableStart = buffer.position();
+            final var executor = Executors.newFixedThreadPool(Math.max(1, parallelism));
+
+            try {
+                final var tasks = new ArrayList<Future<?>>(chunks);
+
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    final var offset = buffer.getLong(tableStart + chunk * CHUNK_ENTRY_SIZE);
+                    final var size = buffer.getInt(tableStart + chunk * CHUNK_ENTRY_SIZE + Long.BYTES);
+                    final ByteBuffer view = buffer.duplicate().position((int) offset);
+
+                    tasks.add(executor.submit(() -> {
+                        for (int i = 0; i < size; i++) {
+                            consumer.accept(CategoryCodec.decode(view));
+                        }
+                    }));
+                }
+
+                for (final var task : tasks) {
+                    task.get();
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("snapshot load was interrupted", ex);
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+
+                throw new IllegalStateException("snapshot load failed", ex.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+
+            return new CategorySnapshot(sequence, count);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
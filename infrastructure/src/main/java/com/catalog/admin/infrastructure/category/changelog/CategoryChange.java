@@ -0,0 +1,45 @@
+package com.catalog.admin.infrastructure.category.changelog;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.domain.category.CategoryGateway;
+import com.catalog.admin.domain.category.CategoryId;
+import com.catalog.admin.infrastructure.category.persistence.CategoryRecord;
+
+import java.util.Objects;
+
+public record CategoryChange(
+        long sequence,
+        Type type,
+        CategoryId id,
+        CategoryRecord category
+) {
+
+    public CategoryChange {
+        Objects.requireNonNull(type, "'type' must not be null");
+        Objects.requireNonNull(id, "'id' must not be null");
+
+        if (type == Type.UPSERT && category == null) {
+            throw new IllegalArgumentException("'category' must not be null for an upsert");
+        }
+    }
+
+    public static CategoryChange upsert(final long sequence, final Category category) {
+        return new CategoryChange(sequence, Type.UPSERT, category.getId(), CategoryRecord.from(category));
+    }
+
+    public static CategoryChange delete(final long sequence, final CategoryId id) {
+        return new CategoryChange(sequence, Type.DELETE, id, null);
+    }
+
+    public void applyTo(final CategoryGateway gateway) {
+        switch (this.type) {
+            case UPSERT -> gateway.update(this.category.toAggregate());
+            case DELETE -> gateway.deleteById(this.id);
+        }
+    }
+
+    public enum Type {
+        UPSERT,
+        DELETE
+    }
+}
@@ -0,0 +1,126 @@
+package com.catalog.admin.infrastructure.category.changelog;
+
+import com.catalog.admin.infrastructure.codec.CategoryChangeCodec;
+import com.catalog.admin.infrastructure.codec.CodecException;
+import com.catalog.admin.infrastructure.codec.Wire;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+// Append-only file of encoded changes, written in sequence order. A crash can
+// leave a partially written last change; replay logs it and stops there. A
+// bad change anywhere else means the log is corrupt, and replay fails rather
+// than silently dropping the changes after it.
+public class CategoryChangeLog implements AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(CategoryChangeLog.class.getName());
+
+    private final FileChannel channel;
+
+    private CategoryChangeLog(final FileChannel channel) {
+        this.channel = channel;
+    }
+
+    public static CategoryChangeLog open(final Path path) {
+        try {
+            return new CategoryChangeLog(FileChannel.open(
+                    path,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND
+            ));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public synchronized void append(final CategoryChange change) {
+        final var buffer = ByteBuffer.allocate(CategoryChangeCodec.size(change));
+        CategoryChangeCodec.encode(change, buffer);
+        buffer.flip();
+
+        try {
+            while (buffer.hasRemaining()) {
+                this.channel.write(buffer);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // Feeds every change with a sequence greater than afterSequence to the
+    // consumer and returns how many were replayed.
+    public static long replay(
+            final Path path,
+            final long afterSequence,
+            final Consumer<CategoryChange> consumer
+    ) {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            long replayed = 0;
+
+            while (buffer.hasRemaining()) {
+                final var offset = buffer.position();
+                final CategoryChange change;
+
+                try {
+                    change = CategoryChangeCodec.decode(buffer);
+                } catch (final CodecException ex) {
+                    if (!reachesEnd(buffer.clear().position(offset))) {
+                        throw new CodecException(
+                                "change log " + path + " is corrupted at offset " + offset + ": " + ex.getMessage());
+                    }
+
+                    LOGGER.log(
+                            System.Logger.Level.WARNING,
+                            "change log {0} ends with an incomplete change at offset {1}, ignoring {2} bytes",
+                            path,
+                            offset,
+                            buffer.limit() - offset
+                    );
+                    break;
+                }
+
+                if (change.sequence() > afterSequence) {
+                    consumer.accept(change);
+                    replayed++;
+                }
+            }
+
+            return replayed;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // Whether the change at the buffer's position is the last thing in the
+    // file, as a torn write would be: its declared length runs to or past the
+    // end, or the length itself is cut short.
+    private static boolean reachesEnd(final ByteBuffer buffer) {
+        try {
+            final var length = Wire.getVarInt(buffer);
+            return length >= buffer.remaining();
+        } catch (final CodecException ex) {
+            return true;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.channel.close();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.catalog.admin.infrastructure.category.concurrent;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.domain.category.CategoryGateway;
+import com.catalog.admin.domain.category.CategoryId;
+import com.catalog.admin.infrastructure.category.persistence.CategoryRecord;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// Runs every write on a gateway one at a time per category id: creates,
+// read-modify-write cycles and deletes share the id's stripe, so concurrent
+// use cases touching the same aggregate cannot lose each other's updates and
+// an update cannot bring back a category deleted mid-cycle. Mutations run on
+// a private copy of the aggregate, and readers get immutable records that
+// later writes cannot change. Writers that expect a CategoryGateway go
+// through gateway().
+public class CategoryMutator {
+
+    private final CategoryGateway gateway;
+    private final StripedCategoryLocks locks;
+
+    private CategoryMutator(final CategoryGateway gateway, final StripedCategoryLocks locks) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' must not be null");
+        this.locks = Objects.requireNonNull(locks, "'locks' must not be null");
+    }
+
+    public static CategoryMutator create(final CategoryGateway gateway) {
+        return create(gateway, StripedCategoryLocks.create());
+    }
+
+    public static CategoryMutator create(final CategoryGateway gateway, final StripedCategoryLocks locks) {
+        return new CategoryMutator(gateway, locks);
+    }
+
+    public CategoryRecord create(final Category category) {
+        return this.locks.withLock(
+                category.getId(),
+                () -> CategoryRecord.from(this.gateway.create(Category.with(category)))
+        );
+    }
+
+    public Optional<CategoryRecord> mutate(final CategoryId id, final Consumer<Category> mutation) {
+        return this.locks.withLock(id, () -> this.gateway.findById(id).map(current -> {
+            final var copy = Category.with(current);
+            mutation.accept(copy);
+            this.gateway.update(copy);
+            return CategoryRecord.from(copy);
+        }));
+    }
+
+    // Returns whether the category existed.
+    public boolean delete(final CategoryId id) {
+        return this.locks.withLock(id, () -> {
+            final var existed = this.gateway.findById(id).isPresent();
+            this.gateway.deleteById(id);
+            return existed;
+        });
+    }
+
+    public CategoryGateway gateway() {
+        return new LockedCategoryGateway(this.gateway, this.locks);
+    }
+
+    public Optional<CategoryRecord> snapshot(final CategoryId id) {
+        return this.gateway.findById(id).map(CategoryRecord::from);
+    }
+}
@@ -0,0 +1,48 @@
+package com.catalog.admin.infrastructure.category.concurrent;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.domain.category.CategoryGateway;
+import com.catalog.admin.domain.category.CategoryId;
+import com.catalog.admin.domain.category.CategorySearchQuery;
+import com.catalog.admin.domain.pagination.Pagination;
+
+import java.util.Optional;
+
+final class LockedCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final StripedCategoryLocks locks;
+
+    LockedCategoryGateway(final CategoryGateway delegate, final StripedCategoryLocks locks) {
+        this.delegate = delegate;
+        this.locks = locks;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return this.locks.withLock(category.getId(), () -> this.delegate.create(category));
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return this.locks.withLock(category.getId(), () -> this.delegate.update(category));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return this.delegate.findById(id);
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        this.locks.withLock(id, () -> {
+            this.delegate.deleteById(id);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package com.catalog.admin.infrastructure.category.concurrent;
+
+import com.catalog.admin.domain.category.CategoryId;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Fixed pool of locks shared by hashing ids onto stripes: work on one id is
+// serialized, and two ids only contend when they land on the same stripe.
+public class StripedCategoryLocks {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    private StripedCategoryLocks(final int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("'stripes' must be at least 1");
+        }
+
+        final var size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+
+        this.stripes = new ReentrantLock[size];
+        this.mask = size - 1;
+
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public static StripedCategoryLocks create() {
+        return create(Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    public static StripedCategoryLocks create(final int stripes) {
+        return new StripedCategoryLocks(stripes);
+    }
+
+    public <T> T withLock(final CategoryId id, final Supplier<T> action) {
+        final var lock = stripe(id);
+        lock.lock();
+
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return this.stripes.length;
+    }
+
+    private ReentrantLock stripe(final CategoryId id) {
+        final var hash = id.hashCode();
+        return this.stripes[(hash ^ (hash >>> 16)) & this.mask];
+    }
+}
@@ -0,0 +1,222 @@
+package com.catalog.admin.infrastructure.category.hierarchy;
+
+import com.catalog.admin.domain.category.CategoryErrors;
+import com.catalog.admin.domain.category.CategoryHierarchy;
+import com.catalog.admin.domain.category.CategoryId;
+import com.catalog.admin.domain.exceptions.DomainException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Closure-style index of the category tree: every node keeps its ancestor path
+// (root first) and the set of all its descendants, so ancestor, descendant and
+// cycle queries are single lookups. Moving a subtree only touches the nodes in
+// it and the ancestors it leaves and joins. A parent that has not been indexed
+// yet is held as a placeholder root until it is put itself or loses its last
+// child.
+public class CategoryTreeIndex implements CategoryHierarchy {
+
+    private final Map<CategoryId, CategoryId> parents = new HashMap<>();
+    private final Map<CategoryId, List<CategoryId>> paths = new HashMap<>();
+    private final Map<CategoryId, Set<CategoryId>> descendants = new HashMap<>();
+    private final Set<CategoryId> placeholders = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private CategoryTreeIndex() {
+    }
+
+    public static CategoryTreeIndex create() {
+        return new CategoryTreeIndex();
+    }
+
+    // Indexes id under parentId (null for a root), moving it and its subtree
+    // when it was already indexed elsewhere. Fails with PARENT_SELF when
+    // parentId is id itself and with PARENT_CYCLE when it is a descendant.
+    public void put(final CategoryId id, final CategoryId parentId) {
+        if (id.equals(parentId)) {
+            throw DomainException.with(CategoryErrors.PARENT_SELF.error());
+        }
+
+        this.lock.writeLock().lock();
+
+        try {
+            if (parentId != null && !this.paths.containsKey(parentId)) {
+                register(parentId, null);
+                this.placeholders.add(parentId);
+            }
+
+            if (!this.paths.containsKey(id)) {
+                register(id, parentId);
+                return;
+            }
+
+            final var wasPlaceholder = this.placeholders.remove(id);
+            final var previous = this.parents.get(id);
+
+            if (parentId == null ? previous == null : parentId.equals(previous)) {
+                return;
+            }
+
+            if (parentId != null && this.descendants.get(id).contains(parentId)) {
+                if (wasPlaceholder) {
+                    this.placeholders.add(id);
+                }
+
+                throw DomainException.with(CategoryErrors.PARENT_CYCLE.error());
+            }
+
+            move(id, parentId);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    // Drops id from the tree. Its descendants keep pointing at it, so while it
+    // has any it stays behind as a placeholder root.
+    public void remove(final CategoryId id) {
+        this.lock.writeLock().lock();
+
+        try {
+            if (!this.paths.containsKey(id)) {
+                return;
+            }
+
+            if (this.descendants.get(id).isEmpty()) {
+                unregister(id);
+            } else {
+                move(id, null);
+                this.placeholders.add(id);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    // Ancestors of id from the root down to its parent; empty for a root or an
+    // id that is not indexed.
+    public List<CategoryId> ancestors(final CategoryId id) {
+        this.lock.readLock().lock();
+
+        try {
+            return this.paths.getOrDefault(id, List.of());
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    // Every category below id, at any depth, not including id itself.
+    public Set<CategoryId> descendants(final CategoryId id) {
+        this.lock.readLock().lock();
+
+        try {
+            final var found = this.descendants.get(id);
+            return found == null ? Set.of() : Set.copyOf(found);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isDescendant(final CategoryId candidate, final CategoryId ancestor) {
+        this.lock.readLock().lock();
+
+        try {
+            final var found = this.descendants.get(ancestor);
+            return found != null && found.contains(candidate);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+
+        try {
+            return this.paths.size() - this.placeholders.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private void register(final CategoryId id, final CategoryId parentId) {
+        final var path = pathUnder(parentId);
+
+        this.parents.put(id, parentId);
+        this.paths.put(id, path);
+        this.descendants.put(id, new HashSet<>());
+
+        for (final var ancestor : path) {
+            this.descendants.get(ancestor).add(id);
+        }
+    }
+
+    private void unregister(final CategoryId id) {
+        final var parentId = this.parents.remove(id);
+
+        for (final var ancestor : this.paths.remove(id)) {
+            this.descendants.get(ancestor).remove(id);
+        }
+
+        this.descendants.remove(id);
+        this.placeholders.remove(id);
+
+        if (parentId != null && this.placeholders.contains(parentId) && this.descendants.get(parentId).isEmpty()) {
+            unregister(parentId);
+        }
+    }
+
+    private void move(final CategoryId id, final CategoryId parentId) {
+        final var previous = this.parents.get(id);
+        final var oldPath = this.paths.get(id);
+        final var newPath = pathUnder(parentId);
+
+        final var subtree = new HashSet<CategoryId>(this.descendants.get(id));
+        subtree.add(id);
+
+        // removed one by one: Set.removeAll would fall back to contains() on
+        // the argument whenever the ancestor's set is not larger than it
+        for (final var ancestor : oldPath) {
+            final var below = this.descendants.get(ancestor);
+
+            for (final var node : subtree) {
+                below.remove(node);
+            }
+        }
+
+        for (final var ancestor : newPath) {
+            this.descendants.get(ancestor).addAll(subtree);
+        }
+
+        for (final var node : subtree) {
+            final var path = this.paths.get(node);
+            final var rewritten = new ArrayList<CategoryId>(newPath.size() + path.size() - oldPath.size());
+            rewritten.addAll(newPath);
+            rewritten.addAll(path.subList(oldPath.size(), path.size()));
+            this.paths.put(node, List.copyOf(rewritten));
+        }
+
+        this.parents.put(id, parentId);
+
+        if (previous != null && this.placeholders.contains(previous) && this.descendants.get(previous).isEmpty()) {
+            unregister(previous);
+        }
+    }
+
+    private List<CategoryId> pathUnder(final CategoryId parentId) {
+        if (parentId == null) {
+            return List.of();
+        }
+
+        final var parentPath = this.paths.get(parentId);
+        final var path = new ArrayList<CategoryId>(parentPath.size() + 1);
+        path.addAll(parentPath);
+        path.add(parentId);
+        return List.copyOf(path);
+    }
+}
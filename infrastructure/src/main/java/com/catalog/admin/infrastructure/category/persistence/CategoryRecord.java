@@ -0,0 +1,46 @@
+package com.catalog.admin.infrastructure.category.persistence;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.domain.category.CategoryId;
+
+import java.time.Instant;
+
+public record CategoryRecord(
+        String id,
+        String name,
+        String description,
+        boolean active,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt,
+        String parentId
+) {
+
+    public static CategoryRecord from(final Category category) {
+        return new CategoryRecord(
+                category.getId().getValue(),
+                category.getName(),
+                category.getDescription(),
+                category.getIsActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt(),
+                category.getParentId() == null ? null : category.getParentId().getValue()
+        );
+    }
+
+    // Rows coming from storage were validated when written, so they are
+    // rebuilt as they are: no new id, no clock read and no validation.
+    public Category toAggregate() {
+        return Category.with(
+                CategoryId.from(this.id),
+                this.name,
+                this.description,
+                this.active,
+                this.createdAt,
+                this.updatedAt,
+                this.deletedAt,
+                this.parentId == null ? null : CategoryId.from(this.parentId)
+        );
+    }
+}
@@ -0,0 +1,352 @@
+package com.catalog.admin.infrastructure.category.persistence;
+
+import com.catalog.admin.domain.category.CategoryId;
+import com.catalog.admin.infrastructure.codec.CategoryCodec;
+import com.catalog.admin.infrastructure.codec.CodecException;
+import com.catalog.admin.infrastructure.codec.Wire;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// Append-only file of deflated blocks, one block per archived batch, so small
+// records share a compression window. Only the id -> block index stays on the
+// heap; removing an entry drops it from the index and appends a small removal
+// block, leaving the archived bytes as dead space in the file. Opening an
+// existing file rebuilds the index by replaying its blocks in order:
+//   DATA     [byte 1][int raw size][int compressed size][deflated CategoryCodec records]
+//   REMOVED  [byte 2][int size][CategoryCodec id]
+// A block cut short by a crash at the end of the file is dropped.
+public class ColdCategorySegment implements AutoCloseable {
+
+    private static final byte DATA = 1;
+    private static final byte REMOVED = 2;
+    private static final int DATA_HEADER_SIZE = 1 + Integer.BYTES * 2;
+    private static final int REMOVED_HEADER_SIZE = 1 + Integer.BYTES;
+
+    private final FileChannel channel;
+    private final Map<CategoryId, Location> index = new ConcurrentHashMap<>();
+    private long size;
+
+    private ColdCategorySegment(final FileChannel channel) {
+        this.channel = channel;
+    }
+
+    public static ColdCategorySegment open(final Path path) {
+        try {
+            final var channel = FileChannel.open(
+                    path,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE
+            );
+
+            try {
+                final var segment = new ColdCategorySegment(channel);
+                segment.rebuildIndex();
+                return segment;
+            } catch (final RuntimeException ex) {
+                channel.close();
+                throw ex;
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public synchronized void append(final List<CategoryRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        final var categories = records.stream().map(CategoryRecord::toAggregate).toList();
+        int rawSize = 0;
+
+        for (final var category : categories) {
+            rawSize += CategoryCodec.size(category);
+        }
+
+        final var raw = ByteBuffer.allocate(rawSize);
+
+        for (final var category : categories) {
+            CategoryCodec.encode(category, raw);
+        }
+
+        final var compressed = deflate(raw.array());
+        final var block = ByteBuffer.allocate(DATA_HEADER_SIZE + compressed.length);
+        block.put(DATA).putInt(rawSize).putInt(compressed.length).put(compressed).flip();
+
+        final var offset = this.size;
+        writeBlock(block);
+
+        for (int i = 0; i < records.size(); i++) {
+            this.index.put(CategoryId.from(records.get(i).id()), new Location(offset, i));
+        }
+    }
+
+    public Optional<CategoryRecord> find(final CategoryId id) {
+        final var location = this.index.get(id);
+
+        if (location == null) {
+            return Optional.empty();
+        }
+
+        final var block = readBlock(location.offset());
+
+        // earlier records are skipped by their length prefix, not decoded
+        for (int i = 0; i < location.position(); i++) {
+            Wire.closeBody(block, Wire.openBody(block));
+        }
+
+        return Optional.of(CategoryRecord.from(CategoryCodec.decode(block)));
+    }
+
+    // Feeds every live record to the consumer, reading each block once.
+    // Records superseded by a later archive or removed are skipped.
+    public synchronized void forEach(final Consumer<CategoryRecord> consumer) {
+        final var offsets = new TreeSet<Long>();
+
+        for (final var location : this.index.values()) {
+            offsets.add(location.offset());
+        }
+
+        for (final var offset : offsets) {
+            final var block = readBlock(offset);
+
+            for (int position = 0; block.hasRemaining(); position++) {
+                final var category = CategoryCodec.decode(block);
+
+                if (new Location(offset, position).equals(this.index.get(category.getId()))) {
+                    consumer.accept(CategoryRecord.from(category));
+                }
+            }
+        }
+    }
+
+    public boolean contains(final CategoryId id) {
+        return this.index.containsKey(id);
+    }
+
+    public synchronized boolean remove(final CategoryId id) {
+        if (this.index.remove(id) == null) {
+            return false;
+        }
+
+        final var length = CategoryCodec.size(id);
+        final var block = ByteBuffer.allocate(REMOVED_HEADER_SIZE + length);
+        block.put(REMOVED).putInt(length);
+        CategoryCodec.encode(id, block);
+        writeBlock(block.flip());
+        return true;
+    }
+
+    public int count() {
+        return this.index.size();
+    }
+
+    public long sizeInBytes() {
+        return this.size;
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.channel.close();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeBlock(final ByteBuffer block) {
+        final var offset = this.size;
+
+        try {
+            while (block.hasRemaining()) {
+                this.channel.write(block, offset + block.position());
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        this.size += block.limit();
+    }
+
+    private void rebuildIndex() throws IOException {
+        final var fileSize = this.channel.size();
+        var offset = 0L;
+
+        while (offset < fileSize) {
+            final var next = replayBlock(offset, fileSize);
+
+            if (next < 0) {
+                break;
+            }
+
+            offset = next;
+        }
+
+        if (offset < fileSize) {
+            this.channel.truncate(offset);
+        }
+
+        this.size = offset;
+    }
+
+    // Applies the block at offset to the index and returns the offset of the
+    // next one, or -1 when the block runs past the end of the file.
+    private long replayBlock(final long offset, final long fileSize) throws IOException {
+        if (fileSize - offset < REMOVED_HEADER_SIZE) {
+            return -1;
+        }
+
+        final var header = ByteBuffer.allocate(DATA_HEADER_SIZE).limit(REMOVED_HEADER_SIZE);
+        readFully(header, offset);
+
+        final var kind = header.get(0);
+
+        if (kind == REMOVED) {
+            final var length = header.getInt(1);
+            final var end = offset + REMOVED_HEADER_SIZE + length;
+
+            if (length < 0) {
+                return corrupted(offset);
+            }
+
+            if (end > fileSize) {
+                return -1;
+            }
+
+            final var id = ByteBuffer.allocate(length);
+            readFully(id, offset + REMOVED_HEADER_SIZE);
+            this.index.remove(CategoryCodec.decodeId(id.flip()));
+            return end;
+        }
+
+        if (kind != DATA) {
+            return corrupted(offset);
+        }
+
+        if (fileSize - offset < DATA_HEADER_SIZE) {
+            return -1;
+        }
+
+        readFully(header.limit(DATA_HEADER_SIZE), offset);
+
+        final var compressedSize = header.getInt(1 + Integer.BYTES);
+        final var end = offset + DATA_HEADER_SIZE + compressedSize;
+
+        if (compressedSize < 0 || header.getInt(1) < 0) {
+            return corrupted(offset);
+        }
+
+        if (end > fileSize) {
+            return -1;
+        }
+
+        final var block = readBlock(offset);
+
+        for (int position = 0; block.hasRemaining(); position++) {
+            this.index.put(CategoryCodec.decode(block).getId(), new Location(offset, position));
+        }
+
+        return end;
+    }
+
+    private static long corrupted(final long offset) {
+        throw new CodecException("cold segment block at offset " + offset + " is corrupted");
+    }
+
+    private ByteBuffer readBlock(final long offset) {
+        try {
+            final var header = ByteBuffer.allocate(DATA_HEADER_SIZE);
+            readFully(header, offset);
+
+            final var rawSize = header.getInt(1);
+            final var compressed = ByteBuffer.allocate(header.getInt(1 + Integer.BYTES));
+            readFully(compressed, offset + DATA_HEADER_SIZE);
+
+            return ByteBuffer.wrap(inflate(compressed.array(), rawSize));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void readFully(final ByteBuffer buffer, final long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (this.channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new CodecException("cold segment block is truncated");
+            }
+        }
+    }
+
+    private static byte[] deflate(final byte[] raw) {
+        final var deflater = new Deflater(Deflater.BEST_SPEED);
+
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            var out = new byte[Math.max(64, raw.length / 2)];
+            var length = 0;
+
+            while (!deflater.finished()) {
+                if (length == out.length) {
+                    out = Arrays.copyOf(out, out.length * 2);
+                }
+
+                length += deflater.deflate(out, length, out.length - length);
+            }
+
+            return Arrays.copyOf(out, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(final byte[] compressed, final int rawSize) {
+        final var inflater = new Inflater();
+
+        try {
+            inflater.setInput(compressed);
+
+            final var raw = new byte[rawSize];
+            var length = 0;
+
+            while (length < rawSize && !inflater.finished()) {
+                final var read = inflater.inflate(raw, length, rawSize - length);
+
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+
+                length += read;
+            }
+
+            if (length != rawSize) {
+                throw new CodecException("cold segment block is corrupted");
+            }
+
+            return raw;
+        } catch (final DataFormatException ex) {
+            throw new CodecException("cold segment block is corrupted");
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private record Location(long offset, int position) {
+    }
+}
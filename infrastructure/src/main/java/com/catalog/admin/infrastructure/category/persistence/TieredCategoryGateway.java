@@ -0,0 +1,246 @@
+package com.catalog.admin.infrastructure.category.persistence;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.domain.category.CategoryGateway;
+import com.catalog.admin.domain.category.CategoryHierarchy;
+import com.catalog.admin.domain.category.CategoryId;
+import com.catalog.admin.domain.category.CategorySearchQuery;
+import com.catalog.admin.domain.pagination.Pagination;
+import com.catalog.admin.infrastructure.category.hierarchy.CategoryTreeIndex;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Keeps the working set in a hot in-memory map and moves categories that have
+// been inactive for longer than maxInactiveAge into a cold segment. Cold
+// categories are invisible to findAll but still served by findById, and any
+// update (activate included) brings them back to the hot tier. The parent
+// links of both tiers are kept in a tree index, so subtree queries never walk
+// the tree; on an existing cold segment the archived parent links are
+// indexed when the gateway is created.
+public class TieredCategoryGateway implements CategoryGateway {
+
+    private static final int ARCHIVE_BLOCK_SIZE = 256;
+
+    private final Map<CategoryId, CategoryRecord> hot = new ConcurrentHashMap<>();
+    private final CategoryTreeIndex tree = CategoryTreeIndex.create();
+    private final ColdCategorySegment cold;
+    private final Duration maxInactiveAge;
+    private final Clock clock;
+
+    private TieredCategoryGateway(
+            final ColdCategorySegment cold,
+            final Duration maxInactiveAge,
+            final Clock clock
+    ) {
+        this.cold = Objects.requireNonNull(cold, "'cold' must not be null");
+        this.maxInactiveAge = Objects.requireNonNull(maxInactiveAge, "'maxInactiveAge' must not be null");
+        this.clock = Objects.requireNonNull(clock, "'clock' must not be null");
+
+        cold.forEach(record -> this.tree.put(
+                CategoryId.from(record.id()),
+                record.parentId() == null ? null : CategoryId.from(record.parentId())
+        ));
+    }
+
+    public static TieredCategoryGateway create(
+            final ColdCategorySegment cold,
+            final Duration maxInactiveAge
+    ) {
+        return create(cold, maxInactiveAge, Clock.systemUTC());
+    }
+
+    public static TieredCategoryGateway create(
+            final ColdCategorySegment cold,
+            final Duration maxInactiveAge,
+            final Clock clock
+    ) {
+        return new TieredCategoryGateway(cold, maxInactiveAge, clock);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        final var terms = query.terms() == null || query.terms().isBlank()
+                ? null
+                : query.terms().toLowerCase(Locale.ROOT);
+
+        final var matches = new ArrayList<CategoryRecord>();
+
+        for (final var record : candidates(query.subtreeOf())) {
+            if (terms == null || contains(record.name(), terms) || contains(record.description(), terms)) {
+                matches.add(record);
+            }
+        }
+
+        matches.sort(comparator(query.sort(), query.direction()));
+
+        final var from = Math.min(matches.size(), Math.max(0, query.page()) * Math.max(0, query.limit()));
+        final var to = Math.min(matches.size(), from + Math.max(0, query.limit()));
+        final var items = new ArrayList<Category>(to - from);
+
+        for (int i = from; i < to; i++) {
+            items.add(matches.get(i).toAggregate());
+        }
+
+        return new Pagination<>(query.page(), query.limit(), matches.size(), items);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        this.tree.put(category.getId(), category.getParentId());
+        this.hot.put(category.getId(), CategoryRecord.from(category));
+        return category;
+    }
+
+    @Override
+    public Category update(final Category category) {
+        this.tree.put(category.getId(), category.getParentId());
+        this.hot.put(category.getId(), CategoryRecord.from(category));
+        this.cold.remove(category.getId());
+        return category;
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        final var record = this.hot.get(id);
+
+        if (record != null) {
+            return Optional.of(record.toAggregate());
+        }
+
+        return this.cold.find(id).map(CategoryRecord::toAggregate);
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        this.hot.remove(id);
+        this.cold.remove(id);
+        this.tree.remove(id);
+    }
+
+    // Moves every category inactive for longer than maxInactiveAge to the cold
+    // segment and returns how many were moved. A category updated while the
+    // batch is written stays hot: it is only dropped from the hot map if it
+    // still holds the state that was archived.
+    public int archive() {
+        final var threshold = this.clock.instant().minus(this.maxInactiveAge);
+        final var batch = new ArrayList<CategoryRecord>(ARCHIVE_BLOCK_SIZE);
+        var archived = 0;
+
+        for (final var record : this.hot.values()) {
+            if (!record.active() && record.deletedAt() != null && record.deletedAt().isBefore(threshold)) {
+                batch.add(record);
+
+                if (batch.size() == ARCHIVE_BLOCK_SIZE) {
+                    archived += moveToCold(batch);
+                    batch.clear();
+                }
+            }
+        }
+
+        return archived + moveToCold(batch);
+    }
+
+    // Every category in either tier, unlike findAll which only sees the hot one.
+    public List<Category> export() {
+        final var categories = new ArrayList<Category>(this.hot.size() + this.cold.count());
+
+        for (final var record : this.hot.values()) {
+            categories.add(record.toAggregate());
+        }
+
+        this.cold.forEach(record -> {
+            if (!this.hot.containsKey(CategoryId.from(record.id()))) {
+                categories.add(record.toAggregate());
+            }
+        });
+
+        return categories;
+    }
+
+    // Ancestors of id from the root down to its parent.
+    public List<CategoryId> ancestors(final CategoryId id) {
+        return this.tree.ancestors(id);
+    }
+
+    // Every category below id, at any depth, in either tier.
+    public Set<CategoryId> descendants(final CategoryId id) {
+        return this.tree.descendants(id);
+    }
+
+    public CategoryHierarchy hierarchy() {
+        return this.tree;
+    }
+
+    public int hotCount() {
+        return this.hot.size();
+    }
+
+    public int coldCount() {
+        return this.cold.count();
+    }
+
+    private int moveToCold(final List<CategoryRecord> batch) {
+        this.cold.append(batch);
+
+        var moved = 0;
+
+        for (final var record : batch) {
+            final var id = CategoryId.from(record.id());
+
+            if (this.hot.remove(id, record)) {
+                moved++;
+            } else {
+                this.cold.remove(id);
+            }
+        }
+
+        return moved;
+    }
+
+    // A subtree filter matches the strict descendants of the given category;
+    // the hot records are looked up from the index instead of scanning them all.
+    private Iterable<CategoryRecord> candidates(final CategoryId subtreeOf) {
+        if (subtreeOf == null) {
+            return this.hot.values();
+        }
+
+        final var records = new ArrayList<CategoryRecord>();
+
+        for (final var id : this.tree.descendants(subtreeOf)) {
+            final var record = this.hot.get(id);
+
+            if (record != null) {
+                records.add(record);
+            }
+        }
+
+        return records;
+    }
+
+    private static boolean contains(final String value, final String terms) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(terms);
+    }
+
+    private static Comparator<CategoryRecord> comparator(final String sort, final String direction) {
+        final Comparator<CategoryRecord> comparator = switch (sort == null ? "" : sort) {
+            case "description" -> Comparator.comparing(
+                    CategoryRecord::description, Comparator.nullsFirst(Comparator.naturalOrder()));
+            case "createdAt" -> Comparator.comparing(CategoryRecord::createdAt);
+            case "updatedAt" -> Comparator.comparing(CategoryRecord::updatedAt);
+            default -> Comparator.comparing(
+                    CategoryRecord::name, Comparator.nullsFirst(Comparator.naturalOrder()));
+        };
+
+        return "desc".equalsIgnoreCase(direction) ? comparator.reversed() : comparator;
+    }
+}
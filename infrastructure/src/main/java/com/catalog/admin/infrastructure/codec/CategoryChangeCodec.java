@@ -0,0 +1,68 @@
+package com.catalog.admin.infrastructure.codec;
+
+import com.catalog.admin.infrastructure.category.changelog.CategoryChange;
+import com.catalog.admin.infrastructure.category.persistence.CategoryRecord;
+
+import java.nio.ByteBuffer;
+
+// Framed like CategoryCodec records: [varint body length][version][type]
+// [varlong sequence][id][category, for upserts only].
+public final class CategoryChangeCodec {
+
+    public static final byte VERSION = 1;
+
+    private CategoryChangeCodec() {
+    }
+
+    public static int size(final CategoryChange change) {
+        final var body = bodySize(change);
+        return Wire.varIntSize(body) + body;
+    }
+
+    public static void encode(final CategoryChange change, final ByteBuffer buffer) {
+        Wire.putVarInt(buffer, bodySize(change));
+        buffer.put(VERSION);
+        buffer.put((byte) change.type().ordinal());
+        Wire.putVarLong(buffer, change.sequence());
+        CategoryCodec.encode(change.id(), buffer);
+
+        if (change.type() == CategoryChange.Type.UPSERT) {
+            CategoryCodec.encode(change.category().toAggregate(), buffer);
+        }
+    }
+
+    public static CategoryChange decode(final ByteBuffer buffer) {
+        final var limit = Wire.openBody(buffer);
+        final var version = Wire.getByte(buffer);
+
+        if (version < 1) {
+            throw new CodecException("unsupported change version " + version);
+        }
+
+        final var types = CategoryChange.Type.values();
+        final var typeOrdinal = Wire.getByte(buffer);
+
+        if (typeOrdinal < 0 || typeOrdinal >= types.length) {
+            throw new CodecException("unknown change type " + typeOrdinal);
+        }
+
+        final var type = types[typeOrdinal];
+        final var sequence = Wire.getVarLong(buffer);
+        final var id = CategoryCodec.decodeId(buffer);
+        final var category = type == CategoryChange.Type.UPSERT
+                ? CategoryRecord.from(CategoryCodec.decode(buffer))
+                : null;
+
+        Wire.closeBody(buffer, limit);
+        return new CategoryChange(sequence, type, id, category);
+    }
+
+    private static int bodySize(final CategoryChange change) {
+        return 2
+                + Wire.varLongSize(change.sequence())
+                + CategoryCodec.size(change.id())
+                + (change.type() == CategoryChange.Type.UPSERT
+                        ? CategoryCodec.size(change.category().toAggregate())
+                        : 0);
+    }
+}
@@ -0,0 +1,240 @@
+package com.catalog.admin.infrastructure.codec;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.domain.category.CategoryId;
+import com.catalog.admin.domain.pagination.Pagination;
+import com.catalog.admin.domain.validation.Error;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+// Every record is framed as [varint body length][version byte][fields...].
+// Newer writers may only append fields, so a reader decodes the fields it
+// knows and skips to the end of the body, and an older body simply ends
+// before the fields it lacks. Error lists, for instance, carry their codes
+// after all the messages, where readers of message-only lists ignore them.
+public final class CategoryCodec {
+
+    public static final byte VERSION = 2;
+
+    private static final int FLAG_ACTIVE = 1;
+    private static final int FLAG_DELETED_AT = 1 << 1;
+
+    private CategoryCodec() {
+    }
+
+    public static int size(final Category category) {
+        return framed(bodySize(category));
+    }
+
+    public static void encode(final Category category, final ByteBuffer buffer) {
+        Wire.putVarInt(buffer, bodySize(category));
+        buffer.put(VERSION);
+
+        final var deletedAt = category.getDeletedAt();
+        var flags = category.getIsActive() ? FLAG_ACTIVE : 0;
+
+        if (deletedAt != null) {
+            flags |= FLAG_DELETED_AT;
+        }
+
+        buffer.put((byte) flags);
+        Wire.putString(buffer, category.getId().getValue());
+        Wire.putString(buffer, category.getName());
+        Wire.putString(buffer, category.getDescription());
+        Wire.putInstant(buffer, category.getCreatedAt());
+        Wire.putInstant(buffer, category.getUpdatedAt());
+
+        if (deletedAt != null) {
+            Wire.putInstant(buffer, deletedAt);
+        }
+
+        final var parentId = category.getParentId();
+        Wire.putString(buffer, parentId == null ? null : parentId.getValue());
+    }
+
+    public static Category decode(final ByteBuffer buffer) {
+        final var limit = openBody(buffer);
+        final var flags = Wire.getByte(buffer);
+        final var id = decodeId(buffer);
+        final var name = Wire.getString(buffer);
+        final var description = Wire.getString(buffer);
+        final var createdAt = Wire.getInstant(buffer);
+        final var updatedAt = Wire.getInstant(buffer);
+        final var deletedAt = (flags & FLAG_DELETED_AT) != 0 ? Wire.getInstant(buffer) : null;
+
+        // added in version 2; version 1 bodies end before it
+        final var parentId = buffer.hasRemaining() ? Wire.getString(buffer) : null;
+
+        Wire.closeBody(buffer, limit);
+
+        return Category.with(
+                id,
+                name,
+                description,
+                (flags & FLAG_ACTIVE) != 0,
+                createdAt,
+                updatedAt,
+                deletedAt,
+                parentId == null ? null : CategoryId.from(parentId)
+        );
+    }
+
+    public static int size(final CategoryId id) {
+        return Wire.stringSize(id.getValue());
+    }
+
+    public static void encode(final CategoryId id, final ByteBuffer buffer) {
+        Wire.putString(buffer, id.getValue());
+    }
+
+    public static CategoryId decodeId(final ByteBuffer buffer) {
+        final var value = Wire.getString(buffer);
+
+        if (value == null) {
+            throw new CodecException("category id must not be null");
+        }
+
+        return CategoryId.from(value);
+    }
+
+    public static int size(final Pagination<Category> page) {
+        return framed(pageBodySize(page));
+    }
+
+    public static void encode(final Pagination<Category> page, final ByteBuffer buffer) {
+        Wire.putVarInt(buffer, pageBodySize(page));
+        buffer.put(VERSION);
+        Wire.putVarInt(buffer, page.page());
+        Wire.putVarInt(buffer, page.limit());
+        Wire.putVarLong(buffer, page.total());
+
+        final var items = page.items();
+        Wire.putVarInt(buffer, items.size());
+
+        for (int i = 0; i < items.size(); i++) {
+            encode(items.get(i), buffer);
+        }
+    }
+
+    public static Pagination<Category> decodePage(final ByteBuffer buffer) {
+        final var bufferLimit = openBody(buffer);
+        final var page = Wire.getVarInt(buffer);
+        final var limit = Wire.getVarInt(buffer);
+        final var total = Wire.getVarLong(buffer);
+        final var count = count(buffer);
+        final var items = new ArrayList<Category>(count);
+
+        for (int i = 0; i < count; i++) {
+            items.add(decode(buffer));
+        }
+
+        Wire.closeBody(buffer, bufferLimit);
+        return new Pagination<>(page, limit, total, items);
+    }
+
+    public static int size(final List<Error> errors) {
+        return framed(errorsBodySize(errors));
+    }
+
+    public static void encode(final List<Error> errors, final ByteBuffer buffer) {
+        Wire.putVarInt(buffer, errorsBodySize(errors));
+        buffer.put(VERSION);
+        Wire.putVarInt(buffer, errors.size());
+
+        for (int i = 0; i < errors.size(); i++) {
+            Wire.putString(buffer, errors.get(i).message());
+        }
+
+        for (int i = 0; i < errors.size(); i++) {
+            Wire.putString(buffer, errors.get(i).code());
+        }
+    }
+
+    public static List<Error> decodeErrors(final ByteBuffer buffer) {
+        final var limit = openBody(buffer);
+        final var count = count(buffer);
+        final var messages = new String[count];
+
+        for (int i = 0; i < count; i++) {
+            messages[i] = Wire.getString(buffer);
+        }
+
+        final var errors = new ArrayList<Error>(count);
+        final var hasCodes = buffer.hasRemaining();
+
+        for (int i = 0; i < count; i++) {
+            errors.add(new Error(hasCodes ? Wire.getString(buffer) : null, messages[i]));
+        }
+
+        Wire.closeBody(buffer, limit);
+        return errors;
+    }
+
+    private static int bodySize(final Category category) {
+        final var deletedAt = category.getDeletedAt();
+
+        return 2
+                + Wire.stringSize(category.getId().getValue())
+                + Wire.stringSize(category.getName())
+                + Wire.stringSize(category.getDescription())
+                + Wire.instantSize(category.getCreatedAt())
+                + Wire.instantSize(category.getUpdatedAt())
+                + (deletedAt != null ? Wire.instantSize(deletedAt) : 0)
+                + Wire.stringSize(category.getParentId() == null ? null : category.getParentId().getValue());
+    }
+
+    private static int pageBodySize(final Pagination<Category> page) {
+        final var items = page.items();
+        int size = 1
+                + Wire.varIntSize(page.page())
+                + Wire.varIntSize(page.limit())
+                + Wire.varLongSize(page.total())
+                + Wire.varIntSize(items.size());
+
+        for (int i = 0; i < items.size(); i++) {
+            size += size(items.get(i));
+        }
+
+        return size;
+    }
+
+    private static int errorsBodySize(final List<Error> errors) {
+        int size = 1 + Wire.varIntSize(errors.size());
+
+        for (int i = 0; i < errors.size(); i++) {
+            size += Wire.stringSize(errors.get(i).message());
+            size += Wire.stringSize(errors.get(i).code());
+        }
+
+        return size;
+    }
+
+    private static int framed(final int bodySize) {
+        return Wire.varIntSize(bodySize) + bodySize;
+    }
+
+    private static int openBody(final ByteBuffer buffer) {
+        final var limit = Wire.openBody(buffer);
+        final var version = Wire.getByte(buffer);
+
+        if (version < 1) {
+            throw new CodecException("unsupported record version " + version);
+        }
+
+        return limit;
+    }
+
+    // Every element takes at least one byte, which bounds the allocation a
+    // corrupt count can cause.
+    private static int count(final ByteBuffer buffer) {
+        final var count = Wire.getVarInt(buffer);
+
+        if (count < 0 || count > buffer.remaining()) {
+            throw new CodecException("element count " + count + " exceeds the record");
+        }
+
+        return count;
+    }
+}
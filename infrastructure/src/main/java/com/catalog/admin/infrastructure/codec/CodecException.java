@@ -0,0 +1,10 @@
+package com.catalog.admin.infrastructure.codec;
+
+import com.catalog.admin.domain.exceptions.NoStackTraceException;
+
+public class CodecException extends NoStackTraceException {
+
+    public CodecException(final String message) {
+        super(message);
+    }
+}
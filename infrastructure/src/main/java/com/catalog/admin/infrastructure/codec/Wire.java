@@ -0,0 +1,243 @@
+package com.catalog.admin.infrastructure.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+// Primitive encodings shared by the codecs: LEB128 varints, zig-zag signed
+// longs, epoch-nano timestamps, length-prefixed UTF-8 strings and length-
+// prefixed bodies. Strings are written char by char so encoding never
+// allocates a byte[]. Every reader fails with CodecException on malformed or
+// truncated input; after a failure the buffer's position and limit are
+// unspecified.
+public final class Wire {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private Wire() {
+    }
+
+    public static void putVarInt(final ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        buffer.put((byte) value);
+    }
+
+    public static byte getByte(final ByteBuffer buffer) {
+        if (!buffer.hasRemaining()) {
+            throw new CodecException("input ends mid-record");
+        }
+
+        return buffer.get();
+    }
+
+    public static int getVarInt(final ByteBuffer buffer) {
+        int value = 0;
+
+        for (int shift = 0; shift < 32; shift += 7) {
+            final var b = getByte(buffer);
+            value |= (b & 0x7F) << shift;
+
+            if (b >= 0) {
+                return value;
+            }
+        }
+
+        throw new CodecException("malformed varint");
+    }
+
+    public static void putVarLong(final ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        buffer.put((byte) value);
+    }
+
+    public static long getVarLong(final ByteBuffer buffer) {
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            final var b = getByte(buffer);
+            value |= (long) (b & 0x7F) << shift;
+
+            if (b >= 0) {
+                return value;
+            }
+        }
+
+        throw new CodecException("malformed varlong");
+    }
+
+    public static void putSignedVarLong(final ByteBuffer buffer, final long value) {
+        putVarLong(buffer, (value << 1) ^ (value >> 63));
+    }
+
+    public static long getSignedVarLong(final ByteBuffer buffer) {
+        final var raw = getVarLong(buffer);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public static int varIntSize(final int value) {
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    public static int varLongSize(final long value) {
+        return (70 - Long.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    public static int signedVarLongSize(final long value) {
+        return varLongSize((value << 1) ^ (value >> 63));
+    }
+
+    // Instants are stored as signed nanoseconds since the epoch, which covers
+    // the years 1677 to 2262.
+    public static void putInstant(final ByteBuffer buffer, final Instant instant) {
+        putSignedVarLong(buffer, toEpochNanos(instant));
+    }
+
+    public static Instant getInstant(final ByteBuffer buffer) {
+        final var nanos = getSignedVarLong(buffer);
+        return Instant.ofEpochSecond(
+                Math.floorDiv(nanos, NANOS_PER_SECOND),
+                Math.floorMod(nanos, NANOS_PER_SECOND)
+        );
+    }
+
+    public static int instantSize(final Instant instant) {
+        return signedVarLongSize(toEpochNanos(instant));
+    }
+
+    // A null string is written as length 0; any other string as its UTF-8
+    // length plus one, followed by the bytes.
+    public static void putString(final ByteBuffer buffer, final String value) {
+        if (value == null) {
+            putVarInt(buffer, 0);
+            return;
+        }
+
+        putVarInt(buffer, utf8Length(value) + 1);
+
+        final var length = value.length();
+
+        for (int i = 0; i < length; i++) {
+            final var c = value.charAt(i);
+
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final var codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    public static String getString(final ByteBuffer buffer) {
+        final var prefix = getVarInt(buffer);
+
+        if (prefix == 0) {
+            return null;
+        }
+
+        final var length = prefix - 1;
+
+        if (length < 0 || length > buffer.remaining()) {
+            throw new CodecException("string length " + length + " exceeds the record");
+        }
+
+        final String value;
+
+        if (buffer.hasArray()) {
+            value = new String(
+                    buffer.array(),
+                    buffer.arrayOffset() + buffer.position(),
+                    length,
+                    StandardCharsets.UTF_8
+            );
+            buffer.position(buffer.position() + length);
+        } else {
+            final var bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        return value;
+    }
+
+    // Reads the length prefix of a body and narrows the buffer's limit to the
+    // body's end, so no read can run into whatever follows it. Returns the
+    // previous limit for closeBody.
+    public static int openBody(final ByteBuffer buffer) {
+        final var length = getVarInt(buffer);
+
+        if (length < 1 || length > buffer.remaining()) {
+            throw new CodecException("record length " + length + " exceeds the buffer");
+        }
+
+        final var limit = buffer.limit();
+        buffer.limit(buffer.position() + length);
+        return limit;
+    }
+
+    // Skips whatever the reader left of the body, such as fields appended by a
+    // newer writer, and restores the limit returned by openBody.
+    public static void closeBody(final ByteBuffer buffer, final int limit) {
+        buffer.position(buffer.limit()).limit(limit);
+    }
+
+    public static int stringSize(final String value) {
+        if (value == null) {
+            return 1;
+        }
+
+        final var length = utf8Length(value);
+        return varIntSize(length + 1) + length;
+    }
+
+    public static int utf8Length(final String value) {
+        final var length = value.length();
+        int bytes = length;
+
+        for (int i = 0; i < length; i++) {
+            final var c = value.charAt(i);
+
+            if (c >= 0x800) {
+                if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    bytes += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                }
+            } else if (c >= 0x80) {
+                bytes += 1;
+            }
+        }
+
+        return bytes;
+    }
+
+    private static long toEpochNanos(final Instant instant) {
+        return Math.addExact(
+                Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND),
+                instant.getNano()
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.catalog.admin.infrastructure.replication;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.domain.category.CategoryGateway;
+import com.catalog.admin.domain.category.CategoryId;
+import com.catalog.admin.domain.category.CategorySearchQuery;
+import com.catalog.admin.domain.pagination.Pagination;
+
+import java.util.Optional;
+
+final class FollowerCategoryGateway implements CategoryGateway {
+
+    private final FollowerReplica replica;
+    private final CategoryGateway store;
+    private final long maxLag;
+
+    FollowerCategoryGateway(final FollowerReplica replica, final CategoryGateway store, final long maxLag) {
+        this.replica = replica;
+        this.store = store;
+        this.maxLag = maxLag;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        checkLag();
+        return this.store.findAll(query);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        throw new UnsupportedOperationException("followers are read-only, write to the leader");
+    }
+
+    @Override
+    public Category update(final Category category) {
+        throw new UnsupportedOperationException("followers are read-only, write to the leader");
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        checkLag();
+        return this.store.findById(id);
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        throw new UnsupportedOperationException("followers are read-only, write to the leader");
+    }
+
+    private void checkLag() {
+        if (this.replica.isStale()) {
+            throw ReplicaLagException.silentLeader(this.replica.sinceLastHeartbeat());
+        }
+
+        final var lag = this.replica.lag();
+
+        if (lag > this.maxLag) {
+            throw new ReplicaLagException(lag, this.maxLag);
+        }
+    }
+}
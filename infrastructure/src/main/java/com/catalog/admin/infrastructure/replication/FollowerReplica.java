@@ -0,0 +1,270 @@
+package com.catalog.admin.infrastructure.replication;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.domain.category.CategoryGateway;
+import com.catalog.admin.domain.category.CategoryId;
+import com.catalog.admin.infrastructure.codec.CategoryChangeCodec;
+import com.catalog.admin.infrastructure.codec.CategoryCodec;
+import com.catalog.admin.infrastructure.codec.Wire;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Objects;
+
+// Keeps a local store in step with a leader: subscribes with the last applied
+// sequence, applies changes in order and reconnects from where it stopped if
+// the stream breaks. Lag is the distance between the leader's sequence, as
+// last reported, and the applied one. Once no heartbeat has arrived for
+// STALE_HEARTBEATS intervals that report can no longer be trusted and the
+// replica is stale: its lag is unknown.
+//
+// The replica remembers the leader epoch it synced with. A restarted leader
+// has a new epoch and resyncs it from a snapshot.
+public class FollowerReplica implements AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(FollowerReplica.class.getName());
+    private static final Duration RECONNECT_DELAY = Duration.ofMillis(200);
+    private static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofMillis(100);
+    private static final int STALE_HEARTBEATS = 5;
+
+    private final InetSocketAddress leader;
+    private final CategoryGateway store;
+    private final Object progress = new Object();
+    private final Thread thread;
+    private final long staleAfterNanos;
+    private volatile long epoch;
+    private volatile long appliedSequence;
+    private volatile long leaderSequence;
+    private volatile long lastHeartbeatNanos;
+    private volatile boolean heard;
+    private volatile Socket socket;
+    private volatile boolean closed;
+
+    private FollowerReplica(
+            final InetSocketAddress leader,
+            final CategoryGateway store,
+            final Duration heartbeatInterval
+    ) {
+        this.leader = Objects.requireNonNull(leader, "'leader' must not be null");
+        this.store = Objects.requireNonNull(store, "'store' must not be null");
+        this.staleAfterNanos = heartbeatInterval.toNanos() * STALE_HEARTBEATS;
+        this.thread = ReplicationServer.daemon("replica-" + leader, this::run);
+    }
+
+    public static FollowerReplica start(final InetSocketAddress leader, final CategoryGateway store) {
+        return start(leader, store, DEFAULT_HEARTBEAT_INTERVAL);
+    }
+
+    // heartbeatInterval must match the one the leader's server was started with.
+    public static FollowerReplica start(
+            final InetSocketAddress leader,
+            final CategoryGateway store,
+            final Duration heartbeatInterval
+    ) {
+        final var replica = new FollowerReplica(leader, store, heartbeatInterval);
+        replica.thread.start();
+        return replica;
+    }
+
+    public long appliedSequence() {
+        return this.appliedSequence;
+    }
+
+    // Long.MAX_VALUE while the replica is stale.
+    public long lag() {
+        if (isStale()) {
+            return Long.MAX_VALUE;
+        }
+
+        return Math.max(0, this.leaderSequence - this.appliedSequence);
+    }
+
+    public boolean isStale() {
+        return !this.heard || System.nanoTime() - this.lastHeartbeatNanos > this.staleAfterNanos;
+    }
+
+    public Duration sinceLastHeartbeat() {
+        return this.heard ? Duration.ofNanos(System.nanoTime() - this.lastHeartbeatNanos) : Duration.ZERO;
+    }
+
+    // Waits until the replica has applied the given read-your-writes token.
+    public boolean awaitSequence(final long sequence, final Duration timeout) throws InterruptedException {
+        final var deadline = System.nanoTime() + timeout.toNanos();
+
+        synchronized (this.progress) {
+            while (this.appliedSequence < sequence) {
+                final var remaining = deadline - System.nanoTime();
+
+                if (remaining <= 0) {
+                    return false;
+                }
+
+                this.progress.wait(Math.max(1, remaining / 1_000_000));
+            }
+        }
+
+        return true;
+    }
+
+    // Read-only view of the local store that refuses reads while the replica
+    // is stale or more than maxLag changes behind.
+    public CategoryGateway gateway(final long maxLag) {
+        return new FollowerCategoryGateway(this, this.store, maxLag);
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        final var current = this.socket;
+
+        if (current != null) {
+            try {
+                current.close();
+            } catch (final IOException ignored) {
+                // closing anyway
+            }
+        }
+
+        this.thread.interrupt();
+    }
+
+    private void run() {
+        while (!this.closed) {
+            try (final var connection = new Socket()) {
+                this.socket = connection;
+                connection.setTcpNoDelay(true);
+                connection.connect(this.leader);
+
+                final var in = new BufferedInputStream(connection.getInputStream());
+                final var out = new BufferedOutputStream(connection.getOutputStream());
+
+                Frames.writeSequence(out, Frames.SUBSCRIBE, this.epoch, this.appliedSequence);
+                out.flush();
+
+                while (!this.closed) {
+                    apply(Frames.read(in));
+                }
+            } catch (final IOException ex) {
+                if (!this.closed) {
+                    LOGGER.log(System.Logger.Level.DEBUG, "replication stream lost, reconnecting", ex);
+                    pause();
+                }
+            } catch (final RuntimeException ex) {
+                // the store may be half way through a change or snapshot:
+                // forget the epoch so the leader resyncs it from a snapshot
+                this.epoch = 0;
+
+                if (!this.closed) {
+                    LOGGER.log(System.Logger.Level.WARNING, "could not apply replicated data, resyncing", ex);
+                    pause();
+                }
+            }
+        }
+    }
+
+    private void apply(final ByteBuffer frame) throws IOException {
+        switch (frame.get(0)) {
+            case Frames.CHANGE -> {
+                final var change = CategoryChangeCodec.decode(frame);
+                change.applyTo(this.store);
+                advance(change.sequence());
+            }
+            case Frames.HEARTBEAT -> heartbeat(frame);
+            case Frames.SNAPSHOT -> applySnapshot(frame);
+            default -> throw new IOException("unexpected frame type " + frame.get(0));
+        }
+    }
+
+    private void heartbeat(final ByteBuffer frame) throws IOException {
+        if (Wire.getVarLong(frame) != this.epoch) {
+            throw new IOException("leader epoch changed, resubscribing");
+        }
+
+        this.leaderSequence = Wire.getVarLong(frame);
+        contact();
+    }
+
+    // The local tree may hang together differently from the snapshot's, as
+    // after a leader restart, so reparenting in place could close a cycle on
+    // the way. Stale categories are deleted, every category is written as a
+    // root, and only then are parents set; each step keeps a subset of the
+    // snapshot's acyclic tree.
+    private void applySnapshot(final ByteBuffer frame) {
+        final var epoch = Wire.getVarLong(frame);
+        final var sequence = Wire.getVarLong(frame);
+        final var count = Wire.getVarInt(frame);
+        final var categories = new ArrayList<Category>(count);
+        final var ids = new HashSet<CategoryId>(count * 2);
+
+        for (int i = 0; i < count; i++) {
+            final var category = CategoryCodec.decode(frame);
+            categories.add(category);
+            ids.add(category.getId());
+        }
+
+        for (final var category : LeaderCategoryGateway.contents(this.store)) {
+            if (!ids.contains(category.getId())) {
+                this.store.deleteById(category.getId());
+            }
+        }
+
+        for (final var category : categories) {
+            this.store.update(category.getParentId() == null ? category : asRoot(category));
+        }
+
+        for (final var category : categories) {
+            if (category.getParentId() != null) {
+                this.store.update(category);
+            }
+        }
+
+        synchronized (this.progress) {
+            contact();
+            this.epoch = epoch;
+            this.appliedSequence = sequence;
+            this.leaderSequence = sequence;
+            this.progress.notifyAll();
+        }
+    }
+
+    private static Category asRoot(final Category category) {
+        return Category.with(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.getIsActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt(),
+                null
+        );
+    }
+
+    private void contact() {
+        this.lastHeartbeatNanos = System.nanoTime();
+        this.heard = true;
+    }
+
+    private void advance(final long sequence) {
+        synchronized (this.progress) {
+            this.appliedSequence = sequence;
+            this.leaderSequence = Math.max(this.leaderSequence, sequence);
+            this.progress.notifyAll();
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(RECONNECT_DELAY.toMillis());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
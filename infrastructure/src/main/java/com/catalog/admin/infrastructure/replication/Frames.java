@@ -0,0 +1,127 @@
+package com.catalog.admin.infrastructure.replication;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.infrastructure.category.changelog.CategoryChange;
+import com.catalog.admin.infrastructure.codec.CategoryChangeCodec;
+import com.catalog.admin.infrastructure.codec.CategoryCodec;
+import com.catalog.admin.infrastructure.codec.CodecException;
+import com.catalog.admin.infrastructure.codec.Wire;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+// Replication wire format. Every frame is [varint length][type byte][payload]:
+//   SUBSCRIBE  follower -> leader  [varlong leader epoch][varlong last applied sequence]
+//   CHANGE     leader -> follower  [CategoryChangeCodec record]
+//   HEARTBEAT  leader -> follower  [varlong leader epoch][varlong leader sequence]
+//   SNAPSHOT   leader -> follower  [varlong epoch][varlong sequence][varint count][CategoryCodec records]
+// The epoch identifies one run of the leader: sequences are only comparable
+// within the same epoch.
+final class Frames {
+
+    static final byte SUBSCRIBE = 1;
+    static final byte CHANGE = 2;
+    static final byte HEARTBEAT = 3;
+    static final byte SNAPSHOT = 4;
+
+    private static final int MAX_FRAME_SIZE = 1 << 30;
+
+    private Frames() {
+    }
+
+    static void writeSequence(
+            final OutputStream out,
+            final byte type,
+            final long epoch,
+            final long sequence
+    ) throws IOException {
+        final var buffer = ByteBuffer.allocate(1 + Wire.varLongSize(epoch) + Wire.varLongSize(sequence));
+        buffer.put(type);
+        Wire.putVarLong(buffer, epoch);
+        Wire.putVarLong(buffer, sequence);
+        write(out, buffer);
+    }
+
+    static void writeChange(final OutputStream out, final CategoryChange change) throws IOException {
+        final var buffer = ByteBuffer.allocate(1 + CategoryChangeCodec.size(change));
+        buffer.put(CHANGE);
+        CategoryChangeCodec.encode(change, buffer);
+        write(out, buffer);
+    }
+
+    static void writeSnapshot(
+            final OutputStream out,
+            final long epoch,
+            final long sequence,
+            final List<Category> categories
+    ) throws IOException {
+        int size = 1 + Wire.varLongSize(epoch) + Wire.varLongSize(sequence) + Wire.varIntSize(categories.size());
+
+        for (final var category : categories) {
+            size += CategoryCodec.size(category);
+        }
+
+        final var buffer = ByteBuffer.allocate(size);
+        buffer.put(SNAPSHOT);
+        Wire.putVarLong(buffer, epoch);
+        Wire.putVarLong(buffer, sequence);
+        Wire.putVarInt(buffer, categories.size());
+
+        for (final var category : categories) {
+            CategoryCodec.encode(category, buffer);
+        }
+
+        write(out, buffer);
+    }
+
+    // Returns the frame positioned after its type byte, which callers read
+    // with buffer.get(0).
+    static ByteBuffer read(final InputStream in) throws IOException {
+        final var length = readVarInt(in);
+
+        if (length < 1 || length > MAX_FRAME_SIZE) {
+            throw new CodecException("invalid frame length " + length);
+        }
+
+        final var frame = in.readNBytes(length);
+
+        if (frame.length != length) {
+            throw new EOFException("connection closed mid-frame");
+        }
+
+        return ByteBuffer.wrap(frame).position(1);
+    }
+
+    private static void write(final OutputStream out, final ByteBuffer frame) throws IOException {
+        final var length = frame.position();
+        final var header = ByteBuffer.allocate(Wire.varIntSize(length));
+        Wire.putVarInt(header, length);
+
+        out.write(header.array());
+        out.write(frame.array(), 0, length);
+    }
+
+    private static int readVarInt(final InputStream in) throws IOException {
+        int value = 0;
+
+        for (int shift = 0; shift < 32; shift += 7) {
+            final var b = in.read();
+
+            if (b < 0) {
+                throw new EOFException("connection closed");
+            }
+
+            value |= (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new CodecException("malformed frame length");
+    }
+}
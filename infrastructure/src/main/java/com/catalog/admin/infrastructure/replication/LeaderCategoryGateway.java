@@ -0,0 +1,106 @@
+package com.catalog.admin.infrastructure.replication;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.domain.category.CategoryGateway;
+import com.catalog.admin.domain.category.CategoryId;
+import com.catalog.admin.domain.category.CategorySearchQuery;
+import com.catalog.admin.domain.pagination.Pagination;
+import com.catalog.admin.infrastructure.category.changelog.CategoryChange;
+import com.catalog.admin.infrastructure.category.persistence.TieredCategoryGateway;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Write side of replication. Writes are serialized so that the order in which
+// they reach the store is exactly the order of their sequence numbers in the
+// change log that followers replay.
+public class LeaderCategoryGateway implements CategoryGateway {
+
+    private static final int DEFAULT_LOG_CAPACITY = 65_536;
+
+    private final CategoryGateway delegate;
+    private final ReplicationLog log;
+    private final long epoch = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+    private long sequence;
+
+    private LeaderCategoryGateway(final CategoryGateway delegate, final int logCapacity) {
+        this.delegate = Objects.requireNonNull(delegate, "'delegate' must not be null");
+        this.log = new ReplicationLog(logCapacity);
+    }
+
+    public static LeaderCategoryGateway wrap(final CategoryGateway delegate) {
+        return wrap(delegate, DEFAULT_LOG_CAPACITY);
+    }
+
+    public static LeaderCategoryGateway wrap(final CategoryGateway delegate, final int logCapacity) {
+        return new LeaderCategoryGateway(delegate, logCapacity);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public synchronized Category create(final Category category) {
+        final var created = this.delegate.create(category);
+        this.log.append(CategoryChange.upsert(++this.sequence, created));
+        return created;
+    }
+
+    @Override
+    public synchronized Category update(final Category category) {
+        final var updated = this.delegate.update(category);
+        this.log.append(CategoryChange.upsert(++this.sequence, updated));
+        return updated;
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return this.delegate.findById(id);
+    }
+
+    @Override
+    public synchronized void deleteById(final CategoryId id) {
+        this.delegate.deleteById(id);
+        this.log.append(CategoryChange.delete(++this.sequence, id));
+    }
+
+    // Sequence of the latest write. Read right after a write, it is a
+    // read-your-writes token: a follower that has applied it has seen the
+    // write (and possibly later ones).
+    public long sequence() {
+        return this.log.lastSequence();
+    }
+
+    // Identifies this leader instance. A restarted leader numbers its changes
+    // from 1 again, so a follower from another epoch must resync.
+    public long epoch() {
+        return this.epoch;
+    }
+
+    ReplicationLog log() {
+        return this.log;
+    }
+
+    synchronized Snapshot snapshot() {
+        return new Snapshot(this.sequence, contents(this.delegate));
+    }
+
+    // Every category in the store. A tiered store is exported with its cold
+    // tier, which findAll leaves out.
+    static List<Category> contents(final CategoryGateway store) {
+        if (store instanceof TieredCategoryGateway tiered) {
+            return tiered.export();
+        }
+
+        return store.findAll(
+                new CategorySearchQuery(0, Integer.MAX_VALUE, 0, "", "createdAt", "asc")
+        ).items();
+    }
+
+    record Snapshot(long sequence, List<Category> categories) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.catalog.admin.infrastructure.replication;
+
+import com.catalog.admin.domain.exceptions.NoStackTraceException;
+
+import java.time.Duration;
+
+public class ReplicaLagException extends NoStackTraceException {
+
+    private final long lag;
+
+    public ReplicaLagException(final long lag, final long maxLag) {
+        this("replica is %d changes behind the leader, more than the allowed %d".formatted(lag, maxLag), lag);
+    }
+
+    private ReplicaLagException(final String message, final long lag) {
+        super(message);
+        this.lag = lag;
+    }
+
+    // The leader has not been heard from, so the lag is unknown.
+    public static ReplicaLagException silentLeader(final Duration silence) {
+        return new ReplicaLagException(
+                "replica has not heard from the leader for %d ms".formatted(silence.toMillis()),
+                Long.MAX_VALUE
+        );
+    }
+
+    public long getLag() {
+        return lag;
+    }
+}
@@ -0,0 +1,62 @@
+package com.catalog.admin.infrastructure.replication;
+
+import com.catalog.admin.infrastructure.category.changelog.CategoryChange;
+
+import java.util.List;
+
+// Bounded in-memory tail of the leader's change log. Followers that fall
+// further behind than the retained window are resynchronized from a full
+// snapshot instead.
+class ReplicationLog {
+
+    private final CategoryChange[] ring;
+    private long lastSequence;
+
+    ReplicationLog(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("'capacity' must be at least 1");
+        }
+
+        this.ring = new CategoryChange[capacity];
+    }
+
+    synchronized void append(final CategoryChange change) {
+        if (change.sequence() != this.lastSequence + 1) {
+            throw new IllegalStateException("changes must be appended in sequence order");
+        }
+
+        this.ring[(int) (change.sequence() % this.ring.length)] = change;
+        this.lastSequence = change.sequence();
+        notifyAll();
+    }
+
+    synchronized long lastSequence() {
+        return this.lastSequence;
+    }
+
+    // Copies up to max changes after the given sequence into out. Returns
+    // false when some of them are no longer retained.
+    synchronized boolean readAfter(final long sequence, final int max, final List<CategoryChange> out) {
+        final var oldest = Math.max(1, this.lastSequence - this.ring.length + 1);
+
+        if (sequence + 1 < oldest) {
+            return false;
+        }
+
+        for (long next = sequence + 1; next <= this.lastSequence && out.size() < max; next++) {
+            out.add(this.ring[(int) (next % this.ring.length)]);
+        }
+
+        return true;
+    }
+
+    synchronized void awaitAfter(final long sequence, final long timeoutMillis) throws InterruptedException {
+        final var deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining = timeoutMillis;
+
+        while (this.lastSequence <= sequence && remaining > 0) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.catalog.admin.infrastructure.replication;
+
+import com.catalog.admin.infrastructure.category.changelog.CategoryChange;
+import com.catalog.admin.infrastructure.codec.Wire;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Streams the leader's change log to followers, one thread per connection.
+// A follower subscribes with the last sequence it applied and receives every
+// later change in order, followed by a heartbeat carrying the leader's
+// sequence so it can measure its lag. A fresh follower, or one too far
+// behind the retained log, first receives a full snapshot: the store may hold
+// categories that were loaded at boot and never went through the log. So does
+// a follower that last synced with another epoch of the leader, or claims a
+// sequence this leader has not reached: its store has diverged.
+public class ReplicationServer implements AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(ReplicationServer.class.getName());
+    private static final int BATCH_SIZE = 256;
+
+    private final LeaderCategoryGateway leader;
+    private final ServerSocket serverSocket;
+    private final Duration heartbeatInterval;
+    private final Set<Socket> followers = ConcurrentHashMap.newKeySet();
+    private final Thread acceptor;
+    private volatile boolean closed;
+
+    private ReplicationServer(
+            final LeaderCategoryGateway leader,
+            final ServerSocket serverSocket,
+            final Duration heartbeatInterval
+    ) {
+        this.leader = leader;
+        this.serverSocket = serverSocket;
+        this.heartbeatInterval = heartbeatInterval;
+        this.acceptor = daemon("replication-accept", this::acceptLoop);
+    }
+
+    public static ReplicationServer start(final LeaderCategoryGateway leader, final InetSocketAddress address) {
+        return start(leader, address, Duration.ofMillis(100));
+    }
+
+    public static ReplicationServer start(
+            final LeaderCategoryGateway leader,
+            final InetSocketAddress address,
+            final Duration heartbeatInterval
+    ) {
+        Objects.requireNonNull(leader, "'leader' must not be null");
+        Objects.requireNonNull(address, "'address' must not be null");
+
+        try {
+            final var serverSocket = new ServerSocket();
+            // a restarted leader rebinds its port while old connections linger
+            serverSocket.setReuseAddress(true);
+            serverSocket.bind(address);
+
+            final var server = new ReplicationServer(leader, serverSocket, heartbeatInterval);
+            server.acceptor.start();
+            return server;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public InetSocketAddress address() {
+        return (InetSocketAddress) this.serverSocket.getLocalSocketAddress();
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+
+        try {
+            this.serverSocket.close();
+        } catch (final IOException ignored) {
+            // closing anyway
+        }
+
+        for (final var follower : this.followers) {
+            try {
+                follower.close();
+            } catch (final IOException ignored) {
+                // closing anyway
+            }
+        }
+
+        // the listening socket is only released once the blocked accept returns
+        try {
+            this.acceptor.join();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void acceptLoop() {
+        while (!this.closed) {
+            try {
+                final var socket = this.serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                this.followers.add(socket);
+                daemon("replication-" + socket.getRemoteSocketAddress(), () -> serve(socket)).start();
+            } catch (final IOException ex) {
+                if (!this.closed) {
+                    LOGGER.log(System.Logger.Level.WARNING, "accept failed", ex);
+                }
+            }
+        }
+    }
+
+    private void serve(final Socket socket) {
+        try (socket;
+             final var in = new BufferedInputStream(socket.getInputStream());
+             final var out = new BufferedOutputStream(socket.getOutputStream())) {
+            final var subscribe = Frames.read(in);
+
+            if (subscribe.get(0) != Frames.SUBSCRIBE) {
+                throw new IOException("expected a subscribe frame");
+            }
+
+            final var epoch = Wire.getVarLong(subscribe);
+            var sent = Wire.getVarLong(subscribe);
+            final var log = this.leader.log();
+            var needsSnapshot = sent == 0 || epoch != this.leader.epoch() || sent > log.lastSequence();
+            final var batch = new ArrayList<CategoryChange>(BATCH_SIZE);
+
+            while (!this.closed) {
+                batch.clear();
+
+                if (needsSnapshot || !log.readAfter(sent, BATCH_SIZE, batch)) {
+                    final var snapshot = this.leader.snapshot();
+                    Frames.writeSnapshot(out, this.leader.epoch(), snapshot.sequence(), snapshot.categories());
+                    sent = snapshot.sequence();
+                    needsSnapshot = false;
+                    continue;
+                }
+
+                for (final var change : batch) {
+                    Frames.writeChange(out, change);
+                    sent = change.sequence();
+                }
+
+                Frames.writeSequence(out, Frames.HEARTBEAT, this.leader.epoch(), log.lastSequence());
+                out.flush();
+
+                if (batch.isEmpty()) {
+                    log.awaitAfter(sent, this.heartbeatInterval.toMillis());
+                }
+            }
+        } catch (final SocketException ex) {
+            // follower went away or the server is closing
+        } catch (final IOException ex) {
+            LOGGER.log(System.Logger.Level.WARNING, "replication stream failed", ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.followers.remove(socket);
+        }
+    }
+
+    static Thread daemon(final String name, final Runnable runnable) {
+        final var thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,85 @@
+package com.catalog.admin.infrastructure.boot;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.infrastructure.category.changelog.CategoryChange;
+import com.catalog.admin.infrastructure.category.changelog.CategoryChangeLog;
+import com.catalog.admin.infrastructure.category.persistence.ColdCategorySegment;
+import com.catalog.admin.infrastructure.category.persistence.TieredCategoryGateway;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+
+public class BootSequenceTest {
+
+    @Test
+    public void givenASnapshotAndNewerChanges_whenCallRun_thenLoadTheSnapshotAndReplayOnlyNewerChanges() throws IOException {
+        final var directory = Files.createTempDirectory("boot");
+        final var snapshotPath = directory.resolve("categories.snapshot");
+        final var changeLogPath = directory.resolve("categories.changelog");
+
+        final var categories = new ArrayList<Category>();
+
+        for (int i = 0; i < 10_000; i++) {
+            categories.add(Category.create("Category " + i, "Description " + i, true));
+        }
+
+        CategorySnapshot.write(snapshotPath, categories, 2);
+
+        final var renamed = Category.with(categories.get(1));
+        renamed.update("Renamed category", "", true);
+        final var created = Category.create("Created after snapshot", "", true);
+
+        try (final var changeLog = CategoryChangeLog.open(changeLogPath)) {
+            changeLog.append(CategoryChange.upsert(1, Category.create("Already in snapshot", "", true)));
+            changeLog.append(CategoryChange.delete(2, categories.get(2).getId()));
+            changeLog.append(CategoryChange.upsert(3, renamed));
+            changeLog.append(CategoryChange.delete(4, categories.get(0).getId()));
+            changeLog.append(CategoryChange.upsert(5, created));
+        }
+
+        try (final var cold = ColdCategorySegment.open(directory.resolve("categories.cold"))) {
+            final var gateway = TieredCategoryGateway.create(cold, Duration.ofDays(30));
+            final var configuration = new BootConfiguration(snapshotPath, changeLogPath, 4, 100);
+
+            final var report = BootSequence.create(configuration, gateway).run();
+
+            Assertions.assertEquals(10_000, report.loaded());
+            Assertions.assertEquals(3, report.replayed());
+            Assertions.assertEquals(5, report.sequence());
+            Assertions.assertEquals(10_000, gateway.hotCount());
+            Assertions.assertTrue(gateway.findById(categories.get(0).getId()).isEmpty());
+            Assertions.assertTrue(gateway.findById(categories.get(2).getId()).isPresent());
+            Assertions.assertEquals(
+                    "Renamed category",
+                    gateway.findById(renamed.getId()).orElseThrow().getName()
+            );
+            Assertions.assertEquals(
+                    categories.get(9_999).getCreatedAt(),
+                    gateway.findById(categories.get(9_999).getId()).orElseThrow().getCreatedAt()
+            );
+            Assertions.assertTrue(gateway.findById(created.getId()).isPresent());
+        }
+    }
+
+    @Test
+    public void givenNoSnapshotOrChangeLog_whenCallRun_thenBootAnEmptyGateway() throws IOException {
+        final var directory = Files.createTempDirectory("boot");
+
+        try (final var cold = ColdCategorySegment.open(directory.resolve("categories.cold"))) {
+            final var gateway = TieredCategoryGateway.create(cold, Duration.ofDays(30));
+            final var configuration = new BootConfiguration(
+                    directory.resolve("missing.snapshot"), directory.resolve("missing.changelog"), 2, 10);
+
+            final var report = BootSequence.create(configuration, gateway).run();
+
+            Assertions.assertEquals(0, report.loaded());
+            Assertions.assertEquals(0, report.replayed());
+            Assertions.assertEquals(0, gateway.hotCount());
+        }
+    }
+}
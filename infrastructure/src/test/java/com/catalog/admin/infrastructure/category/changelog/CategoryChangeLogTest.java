@@ -0,0 +1,73 @@
+package com.catalog.admin.infrastructure.category.changelog;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.infrastructure.codec.CategoryChangeCodec;
+import com.catalog.admin.infrastructure.codec.CodecException;
+import com.catalog.admin.infrastructure.codec.Wire;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class CategoryChangeLogTest {
+
+    @Test
+    public void givenALogWithATornLastChange_whenCallReplay_thenReplayTheChangesBeforeIt() throws IOException {
+        final var path = write(changes());
+        final var bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 5));
+
+        final var replayed = new ArrayList<CategoryChange>();
+
+        Assertions.assertEquals(2, CategoryChangeLog.replay(path, 0, replayed::add));
+        Assertions.assertEquals(List.of(1L, 2L), replayed.stream().map(CategoryChange::sequence).toList());
+    }
+
+    @Test
+    public void givenALogCorruptedBeforeItsEnd_whenCallReplay_thenFailInsteadOfDroppingLaterChanges() throws IOException {
+        final var changes = changes();
+        final var path = write(changes);
+        final var bytes = Files.readAllBytes(path);
+
+        final var second = ByteBuffer.wrap(bytes).position(CategoryChangeCodec.size(changes.get(0)));
+        Wire.getVarInt(second);
+        bytes[second.position()] = 0;
+        Files.write(path, bytes);
+
+        final var replayed = new ArrayList<CategoryChange>();
+        final var exception = Assertions.assertThrows(
+                CodecException.class,
+                () -> CategoryChangeLog.replay(path, 0, replayed::add)
+        );
+
+        Assertions.assertTrue(exception.getMessage().contains("offset " + CategoryChangeCodec.size(changes.get(0))));
+        Assertions.assertEquals(1, replayed.size());
+    }
+
+    private static List<CategoryChange> changes() {
+        final var category = Category.create("Category name", "", true);
+
+        return List.of(
+                CategoryChange.upsert(1, category),
+                CategoryChange.upsert(2, Category.create("Another category", "", true)),
+                CategoryChange.delete(3, category.getId())
+        );
+    }
+
+    private static Path write(final List<CategoryChange> changes) throws IOException {
+        final var path = Files.createTempFile("categories", ".changelog");
+
+        try (final var log = CategoryChangeLog.open(path)) {
+            changes.forEach(log::append);
+        }
+
+        return path;
+    }
+}
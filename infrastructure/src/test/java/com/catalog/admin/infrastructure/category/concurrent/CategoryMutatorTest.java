@@ -0,0 +1,118 @@
+package com.catalog.admin.infrastructure.category.concurrent;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.domain.category.CategoryId;
+import com.catalog.admin.infrastructure.category.persistence.ColdCategorySegment;
+import com.catalog.admin.infrastructure.category.persistence.TieredCategoryGateway;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class CategoryMutatorTest {
+
+    @Test
+    public void givenConcurrentMutationsOfTheSameCategory_whenCallMutate_thenNoUpdateIsLost() throws Exception {
+        try (final var cold = ColdCategorySegment.open(Files.createTempFile("categories", ".cold"))) {
+            final var gateway = TieredCategoryGateway.create(cold, Duration.ofDays(30));
+            final var category = gateway.create(Category.create("Category name", "", true));
+            final var mutator = CategoryMutator.create(gateway, StripedCategoryLocks.create(8));
+            final var threads = 8;
+            final var mutationsPerThread = 500;
+            final var executor = Executors.newFixedThreadPool(threads);
+
+            try {
+                final var tasks = new ArrayList<Callable<Void>>();
+
+                for (int t = 0; t < threads; t++) {
+                    tasks.add(() -> {
+                        for (int i = 0; i < mutationsPerThread; i++) {
+                            mutator.mutate(category.getId(), current -> current.update(
+                                    current.getName(),
+                                    current.getDescription() + "x",
+                                    true
+                            ));
+                        }
+
+                        return null;
+                    });
+                }
+
+                for (final Future<Void> future : executor.invokeAll(tasks)) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            final var snapshot = mutator.snapshot(category.getId()).orElseThrow();
+
+            Assertions.assertEquals(threads * mutationsPerThread, snapshot.description().length());
+        }
+    }
+
+    @Test
+    public void givenASnapshot_whenTheCategoryIsMutatedLater_thenTheSnapshotDoesNotChange() throws IOException {
+        try (final var cold = ColdCategorySegment.open(Files.createTempFile("categories", ".cold"))) {
+            final var gateway = TieredCategoryGateway.create(cold, Duration.ofDays(30));
+            final var category = gateway.create(Category.create("Category name", "", true));
+            final var mutator = CategoryMutator.create(gateway);
+
+            final var before = mutator.snapshot(category.getId()).orElseThrow();
+            final var after = mutator.mutate(category.getId(), Category::deactivate).orElseThrow();
+
+            Assertions.assertTrue(before.active());
+            Assertions.assertFalse(after.active());
+            Assertions.assertFalse(gateway.findById(category.getId()).orElseThrow().getIsActive());
+        }
+    }
+
+    @Test
+    public void givenADeleteDuringAMutation_whenBothFinish_thenTheCategoryStaysDeleted() throws Exception {
+        try (final var cold = ColdCategorySegment.open(Files.createTempFile("categories", ".cold"))) {
+            final var mutator = CategoryMutator.create(
+                    TieredCategoryGateway.create(cold, Duration.ofDays(30)));
+            final var writes = mutator.gateway();
+            final var category = mutator.create(Category.create("Category name", "", true));
+            final var id = CategoryId.from(category.id());
+            final var deleter = new Thread(() -> writes.deleteById(id));
+
+            final var mutated = mutator.mutate(id, current -> {
+                deleter.start();
+                sleep(50);
+
+                Assertions.assertTrue(deleter.isAlive());
+                current.deactivate();
+            });
+
+            deleter.join();
+
+            Assertions.assertFalse(mutated.orElseThrow().active());
+            Assertions.assertTrue(mutator.snapshot(id).isEmpty());
+            Assertions.assertFalse(mutator.delete(id));
+            Assertions.assertTrue(mutator.mutate(id, Category::activate).isEmpty());
+        }
+    }
+
+    @Test
+    public void givenAStripeCount_whenCallCreate_thenRoundUpToAPowerOfTwo() {
+        Assertions.assertEquals(1, StripedCategoryLocks.create(1).size());
+        Assertions.assertEquals(4, StripedCategoryLocks.create(3).size());
+        Assertions.assertEquals(16, StripedCategoryLocks.create(16).size());
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.catalog.admin.infrastructure.category.hierarchy;
+
+import com.catalog.admin.domain.category.CategoryId;
+import com.catalog.admin.domain.exceptions.DomainException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+public class CategoryTreeIndexTest {
+
+    private final CategoryId root = CategoryId.create();
+    private final CategoryId movies = CategoryId.create();
+    private final CategoryId horror = CategoryId.create();
+    private final CategoryId slasher = CategoryId.create();
+    private final CategoryId series = CategoryId.create();
+
+    @Test
+    public void givenATree_whenCallAncestorsAndDescendants_thenAnswerFromTheIndex() {
+        final var index = tree();
+
+        Assertions.assertEquals(Set.of(movies, horror, slasher, series), index.descendants(root));
+        Assertions.assertEquals(Set.of(horror, slasher), index.descendants(movies));
+        Assertions.assertEquals(List.of(root, movies, horror), index.ancestors(slasher));
+        Assertions.assertTrue(index.isDescendant(slasher, root));
+        Assertions.assertFalse(index.isDescendant(root, slasher));
+        Assertions.assertFalse(index.isDescendant(movies, movies));
+        Assertions.assertEquals(5, index.size());
+    }
+
+    @Test
+    public void givenASubtree_whenMovedUnderAnotherParent_thenRewriteOnlyTheAffectedEntries() {
+        final var index = tree();
+
+        index.put(horror, series);
+
+        Assertions.assertEquals(Set.of(), index.descendants(movies));
+        Assertions.assertEquals(Set.of(horror, slasher), index.descendants(series));
+        Assertions.assertEquals(Set.of(movies, horror, slasher, series), index.descendants(root));
+        Assertions.assertEquals(List.of(root, series, horror), index.ancestors(slasher));
+
+        index.put(horror, null);
+
+        Assertions.assertEquals(Set.of(movies, series), index.descendants(root));
+        Assertions.assertEquals(List.of(horror), index.ancestors(slasher));
+    }
+
+    @Test
+    public void givenAParentInsideTheSubtree_whenCallPut_thenRejectTheCycleAndKeepTheTree() {
+        final var index = tree();
+
+        final var exception = Assertions.assertThrows(DomainException.class, () -> index.put(movies, slasher));
+
+        Assertions.assertEquals("category.parent.cycle", exception.getErrors().get(0).code());
+
+        final var self = Assertions.assertThrows(DomainException.class, () -> index.put(movies, movies));
+
+        Assertions.assertEquals("category.parent.self", self.getErrors().get(0).code());
+        Assertions.assertEquals(List.of(root, movies, horror), index.ancestors(slasher));
+        Assertions.assertEquals(5, index.size());
+    }
+
+    @Test
+    public void givenAChildPutBeforeItsParent_whenTheParentIsPut_thenLinkThemUp() {
+        final var index = CategoryTreeIndex.create();
+
+        index.put(horror, movies);
+
+        Assertions.assertEquals(1, index.size());
+        Assertions.assertEquals(List.of(movies), index.ancestors(horror));
+
+        index.put(movies, root);
+
+        Assertions.assertEquals(2, index.size());
+        Assertions.assertEquals(List.of(root, movies), index.ancestors(horror));
+        Assertions.assertEquals(Set.of(movies, horror), index.descendants(root));
+    }
+
+    @Test
+    public void givenANodeWithChildren_whenCallRemove_thenKeepItsSubtreeUnderAPlaceholder() {
+        final var index = tree();
+
+        index.remove(movies);
+
+        Assertions.assertEquals(4, index.size());
+        Assertions.assertEquals(Set.of(series), index.descendants(root));
+        Assertions.assertEquals(List.of(movies, horror), index.ancestors(slasher));
+
+        index.remove(slasher);
+        index.remove(horror);
+
+        Assertions.assertEquals(2, index.size());
+        Assertions.assertEquals(Set.of(), index.descendants(movies));
+        Assertions.assertEquals(List.of(), index.ancestors(movies));
+    }
+
+    @Test
+    public void givenALargeSubtree_whenMovedBackAndForth_thenKeepTheMoveIncremental() {
+        final var index = CategoryTreeIndex.create();
+        final var leaves = 40_000;
+
+        index.put(root, null);
+        index.put(movies, root);
+        index.put(series, root);
+        index.put(horror, movies);
+
+        for (int i = 0; i < leaves; i++) {
+            index.put(CategoryId.create(), horror);
+        }
+
+        index.put(horror, series);
+        index.put(horror, movies);
+        index.put(horror, series);
+
+        Assertions.assertEquals(Set.of(), index.descendants(movies));
+        Assertions.assertEquals(leaves + 1, index.descendants(series).size());
+        Assertions.assertEquals(leaves + 3, index.descendants(root).size());
+    }
+
+    private CategoryTreeIndex tree() {
+        final var index = CategoryTreeIndex.create();
+        index.put(root, null);
+        index.put(movies, root);
+        index.put(horror, movies);
+        index.put(slasher, horror);
+        index.put(series, root);
+        return index;
+    }
+}
@@ -0,0 +1,26 @@
+package com.catalog.admin.infrastructure.category.persistence;
+
+import com.catalog.admin.domain.category.Category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CategoryRecordTest {
+
+    @Test
+    public void givenAValidCategory_whenCallFromAndToAggregate_thenRebuildTheSameCategory() {
+        final var category = Category.create("Category name", "Category description", false);
+
+        final var record = CategoryRecord.from(category);
+        final var rebuilt = record.toAggregate();
+
+        Assertions.assertEquals(category.getId(), rebuilt.getId());
+        Assertions.assertEquals(category.getId().getValue(), record.id());
+        Assertions.assertEquals(category.getName(), rebuilt.getName());
+        Assertions.assertEquals(category.getDescription(), rebuilt.getDescription());
+        Assertions.assertEquals(category.getIsActive(), rebuilt.getIsActive());
+        Assertions.assertEquals(category.getCreatedAt(), rebuilt.getCreatedAt());
+        Assertions.assertEquals(category.getUpdatedAt(), rebuilt.getUpdatedAt());
+        Assertions.assertEquals(category.getDeletedAt(), rebuilt.getDeletedAt());
+    }
+}
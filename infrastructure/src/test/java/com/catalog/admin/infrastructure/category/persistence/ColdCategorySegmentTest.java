@@ -0,0 +1,77 @@
+package com.catalog.admin.infrastructure.category.persistence;
+
+import com.catalog.admin.domain.category.Category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ColdCategorySegmentTest {
+
+    @Test
+    public void givenAnExistingSegment_whenCallOpen_thenRebuildTheIndexFromTheFile() throws IOException {
+        final var path = Files.createTempFile("categories", ".cold");
+        final var kept = CategoryRecord.from(Category.create("Kept category", "", false));
+        final var removed = CategoryRecord.from(Category.create("Removed category", "", false));
+        final var rearchived = CategoryRecord.from(Category.create("Archived twice", "", false));
+
+        try (final var segment = ColdCategorySegment.open(path)) {
+            segment.append(List.of(kept, removed, rearchived));
+            segment.remove(kept.toAggregate().getId());
+            segment.remove(removed.toAggregate().getId());
+            segment.remove(rearchived.toAggregate().getId());
+            segment.append(List.of(kept, rearchived));
+        }
+
+        try (final var segment = ColdCategorySegment.open(path)) {
+            Assertions.assertEquals(2, segment.count());
+            Assertions.assertEquals(kept, segment.find(kept.toAggregate().getId()).orElseThrow());
+            Assertions.assertEquals(rearchived, segment.find(rearchived.toAggregate().getId()).orElseThrow());
+            Assertions.assertTrue(segment.find(removed.toAggregate().getId()).isEmpty());
+
+            final var live = new ArrayList<CategoryRecord>();
+            segment.forEach(live::add);
+
+            Assertions.assertEquals(2, live.size());
+            Assertions.assertTrue(live.containsAll(List.of(kept, rearchived)));
+        }
+    }
+
+    @Test
+    public void givenABlockCutShortAtTheEnd_whenCallOpen_thenDropItAndKeepAppending() throws IOException {
+        final var path = Files.createTempFile("categories", ".cold");
+        final var first = CategoryRecord.from(Category.create("First category", "", false));
+        final var torn = CategoryRecord.from(Category.create("Torn category", "", false));
+        final long intact;
+
+        try (final var segment = ColdCategorySegment.open(path)) {
+            segment.append(List.of(first));
+            intact = segment.sizeInBytes();
+            segment.append(List.of(torn));
+        }
+
+        try (final var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        final var next = CategoryRecord.from(Category.create("Next category", "", false));
+
+        try (final var segment = ColdCategorySegment.open(path)) {
+            Assertions.assertEquals(intact, segment.sizeInBytes());
+            Assertions.assertTrue(segment.find(torn.toAggregate().getId()).isEmpty());
+
+            segment.append(List.of(next));
+        }
+
+        try (final var segment = ColdCategorySegment.open(path)) {
+            Assertions.assertEquals(2, segment.count());
+            Assertions.assertEquals(next, segment.find(next.toAggregate().getId()).orElseThrow());
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.catalog.admin.infrastructure.category.persistence;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.domain.category.CategorySearchQuery;
+import com.catalog.admin.domain.exceptions.DomainException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class TieredCategoryGatewayTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T00:00:00Z");
+
+    @Test
+    public void givenAnOldInactiveCategory_whenCallArchive_thenMoveItToTheColdSegment() throws IOException {
+        try (final var cold = ColdCategorySegment.open(Files.createTempFile("categories", ".cold"))) {
+            final var gateway = TieredCategoryGateway.create(
+                    cold, Duration.ofDays(30), Clock.fixed(NOW, ZoneOffset.UTC));
+
+            final var old = gateway.create(category("Old inactive", false, NOW.minus(Duration.ofDays(90))));
+            final var recent = gateway.create(category("Recent inactive", false, NOW.minus(Duration.ofDays(1))));
+            final var active = gateway.create(category("Active category", true, NOW.minus(Duration.ofDays(90))));
+
+            Assertions.assertEquals(1, gateway.archive());
+            Assertions.assertEquals(2, gateway.hotCount());
+            Assertions.assertEquals(1, gateway.coldCount());
+
+            final var page = gateway.findAll(new CategorySearchQuery(0, 10, 0, "", "name", "asc"));
+
+            Assertions.assertEquals(2, page.total());
+            Assertions.assertEquals(active.getId(), page.items().get(0).getId());
+            Assertions.assertEquals(recent.getId(), page.items().get(1).getId());
+
+            final var archived = gateway.findById(old.getId()).orElseThrow();
+
+            Assertions.assertEquals(old.getName(), archived.getName());
+            Assertions.assertEquals(old.getDeletedAt(), archived.getDeletedAt());
+            Assertions.assertFalse(archived.getIsActive());
+        }
+    }
+
+    @Test
+    public void givenAnArchivedCategory_whenActivatedAndUpdated_thenPromoteItBackToTheHotTier() throws IOException {
+        try (final var cold = ColdCategorySegment.open(Files.createTempFile("categories", ".cold"))) {
+            final var gateway = TieredCategoryGateway.create(
+                    cold, Duration.ofDays(30), Clock.fixed(NOW, ZoneOffset.UTC));
+
+            final var old = gateway.create(category("Old inactive", false, NOW.minus(Duration.ofDays(90))));
+            gateway.archive();
+
+            final var archived = gateway.findById(old.getId()).orElseThrow();
+            archived.activate(Clock.fixed(NOW, ZoneOffset.UTC));
+            gateway.update(archived);
+
+            Assertions.assertEquals(1, gateway.hotCount());
+            Assertions.assertEquals(0, gateway.coldCount());
+            Assertions.assertEquals(
+                    1,
+                    gateway.findAll(new CategorySearchQuery(0, 10, 0, "old", "name", "asc")).total()
+            );
+        }
+    }
+
+    @Test
+    public void givenManyArchivedCategories_whenCallFindById_thenReadEachFromItsBlock() throws IOException {
+        try (final var cold = ColdCategorySegment.open(Files.createTempFile("categories", ".cold"))) {
+            final var gateway = TieredCategoryGateway.create(
+                    cold, Duration.ofDays(30), Clock.fixed(NOW, ZoneOffset.UTC));
+
+            final var categories = new ArrayList<Category>();
+
+            for (int i = 0; i < 600; i++) {
+                categories.add(gateway.create(category("Inactive " + i, false, NOW.minus(Duration.ofDays(60)))));
+            }
+
+            Assertions.assertEquals(600, gateway.archive());
+
+            for (final var category : categories) {
+                Assertions.assertEquals(
+                        category.getName(),
+                        gateway.findById(category.getId()).orElseThrow().getName()
+                );
+            }
+
+            gateway.deleteById(categories.get(0).getId());
+
+            Assertions.assertTrue(gateway.findById(categories.get(0).getId()).isEmpty());
+        }
+    }
+
+    @Test
+    public void givenACategoryTree_whenCallFindAllWithASubtree_thenReturnOnlyItsDescendants() throws IOException {
+        try (final var cold = ColdCategorySegment.open(Files.createTempFile("categories", ".cold"))) {
+            final var gateway = TieredCategoryGateway.create(
+                    cold, Duration.ofDays(30), Clock.fixed(NOW, ZoneOffset.UTC));
+
+            final var root = gateway.create(category("Root", true, NOW));
+            final var movies = gateway.create(child("Movies", root));
+            final var series = gateway.create(child("Series", root));
+            final var horror = gateway.create(child("Horror movies", movies));
+            gateway.create(child("Drama series", series));
+
+            final var page = gateway.findAll(
+                    new CategorySearchQuery(0, 10, 0, "", "name", "asc", movies.getId()));
+
+            Assertions.assertEquals(1, page.total());
+            Assertions.assertEquals(horror.getId(), page.items().get(0).getId());
+            Assertions.assertEquals(4, gateway.descendants(root.getId()).size());
+            Assertions.assertEquals(List.of(root.getId(), movies.getId()), gateway.ancestors(horror.getId()));
+
+            gateway.update(horror.changeParent(series.getId()));
+
+            Assertions.assertEquals(0, gateway.findAll(
+                    new CategorySearchQuery(0, 10, 0, "", "name", "asc", movies.getId())).total());
+            Assertions.assertEquals(2, gateway.findAll(
+                    new CategorySearchQuery(0, 10, 0, "", "name", "asc", series.getId())).total());
+            Assertions.assertThrows(
+                    DomainException.class,
+                    () -> gateway.update(root.changeParent(horror.getId()))
+            );
+            Assertions.assertEquals(List.of(), gateway.ancestors(root.getId()));
+        }
+    }
+
+    @Test
+    public void givenArchivedChildren_whenTheGatewayIsReopened_thenKeepThemInTheTreeIndex() throws IOException {
+        final var path = Files.createTempFile("categories", ".cold");
+        final var clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        final var root = category("Root", true, NOW);
+        final var archived = Category.create(
+                "Archived child", "", false, root.getId(), Clock.fixed(NOW.minus(Duration.ofDays(90)), ZoneOffset.UTC));
+
+        try (final var cold = ColdCategorySegment.open(path)) {
+            final var gateway = TieredCategoryGateway.create(cold, Duration.ofDays(30), clock);
+            gateway.create(root);
+            gateway.create(archived);
+
+            Assertions.assertEquals(1, gateway.archive());
+        }
+
+        try (final var cold = ColdCategorySegment.open(path)) {
+            final var gateway = TieredCategoryGateway.create(cold, Duration.ofDays(30), clock);
+
+            Assertions.assertEquals(Set.of(archived.getId()), gateway.descendants(root.getId()));
+            Assertions.assertEquals(List.of(root.getId()), gateway.ancestors(archived.getId()));
+            Assertions.assertTrue(gateway.hierarchy().isDescendant(archived.getId(), root.getId()));
+        }
+    }
+
+    private static Category child(final String name, final Category parent) {
+        return Category.create(name, "", true, parent.getId(), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static Category category(final String name, final boolean active, final Instant at) {
+        return Category.create(name, "", active, Clock.fixed(at, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,217 @@
+package com.catalog.admin.infrastructure.codec;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.domain.pagination.Pagination;
+import com.catalog.admin.domain.validation.Error;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+
+public class CategoryCodecTest {
+
+    @Test
+    public void givenAValidCategory_whenCallEncodeAndDecode_thenReturnAnEqualCategory() {
+        final var category = Category.create("Categoria ção 🎬", "Category description", false);
+        final var buffer = ByteBuffer.allocate(CategoryCodec.size(category));
+
+        CategoryCodec.encode(category, buffer);
+
+        Assertions.assertEquals(0, buffer.remaining());
+
+        final var decoded = CategoryCodec.decode(buffer.flip());
+
+        assertSameState(category, decoded);
+    }
+
+    @Test
+    public void givenACategoryWithNullFields_whenCallEncodeAndDecodeOnADirectBuffer_thenKeepTheNulls() {
+        final var category = Category.create(null, null, true);
+        final var buffer = ByteBuffer.allocateDirect(CategoryCodec.size(category));
+
+        CategoryCodec.encode(category, buffer);
+        final var decoded = CategoryCodec.decode(buffer.flip());
+
+        assertSameState(category, decoded);
+    }
+
+    @Test
+    public void givenAnInstantBeforeTheEpoch_whenCallPutAndGetInstant_thenReturnTheSameInstant() {
+        final var instant = Instant.parse("1969-12-31T23:59:59.123456789Z");
+        final var buffer = ByteBuffer.allocate(Wire.instantSize(instant));
+
+        Wire.putInstant(buffer, instant);
+
+        Assertions.assertEquals(instant, Wire.getInstant(buffer.flip()));
+    }
+
+    @Test
+    public void givenAPagination_whenCallEncodeAndDecode_thenReturnTheSamePage() {
+        final var items = List.of(
+                Category.create("First category", "", true),
+                Category.create("Second category", "", false)
+        );
+        final var page = new Pagination<>(2, 10, 1_000_000L, items);
+        final var buffer = ByteBuffer.allocate(CategoryCodec.size(page));
+
+        CategoryCodec.encode(page, buffer);
+        final var decoded = CategoryCodec.decodePage(buffer.flip());
+
+        Assertions.assertEquals(page.page(), decoded.page());
+        Assertions.assertEquals(page.limit(), decoded.limit());
+        Assertions.assertEquals(page.total(), decoded.total());
+        Assertions.assertEquals(items.size(), decoded.items().size());
+        assertSameState(items.get(1), decoded.items().get(1));
+    }
+
+    @Test
+    public void givenAnErrorList_whenCallEncodeAndDecode_thenReturnTheSameErrors() {
+        final var errors = List.of(new Error("category.name.null", "'name' should not be null"), new Error("other"));
+        final var buffer = ByteBuffer.allocate(CategoryCodec.size(errors));
+
+        CategoryCodec.encode(errors, buffer);
+
+        Assertions.assertEquals(errors, CategoryCodec.decodeErrors(buffer.flip()));
+    }
+
+    @Test
+    public void givenAnErrorListWithoutCodes_whenCallDecodeErrors_thenReturnErrorsWithNullCodes() {
+        final var buffer = ByteBuffer.allocate(64);
+        final var body = ByteBuffer.allocate(32);
+        body.put(CategoryCodec.VERSION);
+        Wire.putVarInt(body, 1);
+        Wire.putString(body, "'name' should not be empty");
+        body.flip();
+
+        Wire.putVarInt(buffer, body.remaining());
+        buffer.put(body);
+
+        final var errors = CategoryCodec.decodeErrors(buffer.flip());
+
+        Assertions.assertEquals(List.of(new Error("'name' should not be empty")), errors);
+    }
+
+    @Test
+    public void givenARecordWithTrailingFieldsFromANewerVersion_whenCallDecode_thenSkipTheUnknownFields() {
+        final var category = Category.create("Category name", "", true);
+        final var body = ByteBuffer.allocate(CategoryCodec.size(category));
+        CategoryCodec.encode(category, body);
+        body.flip();
+
+        final var bodyLength = Wire.getVarInt(body);
+        final var newer = ByteBuffer.allocate(64 + bodyLength);
+        Wire.putVarInt(newer, bodyLength + 3);
+        newer.put(body);
+        newer.put((byte) 7).put((byte) 8).put((byte) 9);
+        newer.put((byte) 42);
+        newer.flip();
+
+        assertSameState(category, CategoryCodec.decode(newer));
+        Assertions.assertEquals(42, newer.get());
+    }
+
+    @Test
+    public void givenACategoryWithAParent_whenCallEncodeAndDecode_thenKeepTheParent() {
+        final var parent = Category.create("Parent category", "", true);
+        final var category = Category.create("Child category", "", true, parent.getId(), Clock.systemUTC());
+        final var buffer = ByteBuffer.allocate(CategoryCodec.size(category));
+
+        CategoryCodec.encode(category, buffer);
+
+        assertSameState(category, CategoryCodec.decode(buffer.flip()));
+    }
+
+    @Test
+    public void givenAVersionOneRecord_whenCallDecode_thenReturnACategoryWithoutParent() {
+        final var category = Category.create("Category name", "", true);
+        final var body = ByteBuffer.allocate(CategoryCodec.size(category));
+        CategoryCodec.encode(category, body);
+        body.flip();
+
+        // a version 1 body is the current one without the trailing parent id
+        final var bodyLength = Wire.getVarInt(body) - 1;
+        final var older = ByteBuffer.allocate(8 + bodyLength);
+        Wire.putVarInt(older, bodyLength);
+        older.put(body.limit(body.limit() - 1));
+        older.put(older.position() - bodyLength, (byte) 1);
+        older.flip();
+
+        assertSameState(category, CategoryCodec.decode(older));
+        Assertions.assertEquals(0, older.remaining());
+    }
+
+    @Test
+    public void givenATruncatedRecord_whenCallDecode_thenThrowACodecException() {
+        final var category = Category.create("Category name", "", true);
+        final var buffer = ByteBuffer.allocate(CategoryCodec.size(category));
+        CategoryCodec.encode(category, buffer);
+        buffer.flip().limit(buffer.limit() - 1);
+
+        Assertions.assertThrows(CodecException.class, () -> CategoryCodec.decode(buffer));
+    }
+
+    @Test
+    public void givenAStringLongerThanItsRecord_whenCallDecode_thenThrowACodecExceptionInsteadOfReadingPastIt() {
+        final var buffer = ByteBuffer.allocate(64);
+        Wire.putVarInt(buffer, 4);
+        buffer.put(CategoryCodec.VERSION).put((byte) 0);
+        Wire.putVarInt(buffer, 21);
+        buffer.put((byte) 'a');
+
+        while (buffer.hasRemaining()) {
+            buffer.put((byte) 'b');
+        }
+
+        Assertions.assertThrows(CodecException.class, () -> CategoryCodec.decode(buffer.flip()));
+    }
+
+    @Test
+    public void givenARecordWithANullId_whenCallDecode_thenThrowACodecException() {
+        final var nullId = ByteBuffer.allocate(8);
+        Wire.putVarInt(nullId, 3);
+        nullId.put(CategoryCodec.VERSION).put((byte) 0);
+        Wire.putString(nullId, null);
+
+        Assertions.assertThrows(CodecException.class, () -> CategoryCodec.decode(nullId.flip()));
+    }
+
+    @Test
+    public void givenANegativeStringLength_whenCallDecode_thenThrowACodecException() {
+        final var buffer = ByteBuffer.allocate(16);
+        Wire.putVarInt(buffer, 7);
+        buffer.put(CategoryCodec.VERSION).put((byte) 0);
+        Wire.putVarInt(buffer, -1);
+
+        Assertions.assertThrows(CodecException.class, () -> CategoryCodec.decode(buffer.flip()));
+    }
+
+    @Test
+    public void givenAVarIntCutShortByItsRecord_whenCallDecode_thenThrowACodecException() {
+        final var truncated = ByteBuffer.wrap(new byte[]{3, CategoryCodec.VERSION, 0, (byte) 0x80});
+        final var empty = ByteBuffer.wrap(new byte[]{(byte) 0x80});
+        final var hugeCount = ByteBuffer.allocate(16);
+        Wire.putVarInt(hugeCount, 7);
+        hugeCount.put(CategoryCodec.VERSION);
+        Wire.putVarInt(hugeCount, Integer.MAX_VALUE);
+        hugeCount.put((byte) 0);
+
+        Assertions.assertThrows(CodecException.class, () -> CategoryCodec.decode(truncated));
+        Assertions.assertThrows(CodecException.class, () -> Wire.getVarLong(empty));
+        Assertions.assertThrows(CodecException.class, () -> CategoryCodec.decodeErrors(hugeCount.flip()));
+    }
+
+    private static void assertSameState(final Category expected, final Category actual) {
+        Assertions.assertEquals(expected.getId(), actual.getId());
+        Assertions.assertEquals(expected.getName(), actual.getName());
+        Assertions.assertEquals(expected.getDescription(), actual.getDescription());
+        Assertions.assertEquals(expected.getIsActive(), actual.getIsActive());
+        Assertions.assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        Assertions.assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+        Assertions.assertEquals(expected.getDeletedAt(), actual.getDeletedAt());
+        Assertions.assertEquals(expected.getParentId(), actual.getParentId());
+    }
+}
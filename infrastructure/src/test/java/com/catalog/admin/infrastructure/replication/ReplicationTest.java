@@ -0,0 +1,215 @@
+package com.catalog.admin.infrastructure.replication;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.domain.category.CategoryGateway;
+import com.catalog.admin.domain.category.CategoryId;
+import com.catalog.admin.domain.category.CategorySearchQuery;
+import com.catalog.admin.infrastructure.category.persistence.ColdCategorySegment;
+import com.catalog.admin.infrastructure.category.persistence.TieredCategoryGateway;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+public class ReplicationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final CategorySearchQuery ALL = new CategorySearchQuery(0, 100, 0, "", "name", "asc");
+
+    @Test
+    public void givenALeaderAndTwoFollowers_whenWritingToTheLeader_thenFollowersServeTheWritesInOrder() throws Exception {
+        final var leader = LeaderCategoryGateway.wrap(store());
+
+        try (final var server = ReplicationServer.start(leader, loopback());
+             final var first = FollowerReplica.start(server.address(), store());
+             final var second = FollowerReplica.start(server.address(), store())) {
+            final var category = leader.create(Category.create("Category name", "", true));
+            leader.update(Category.with(category).update("Renamed category", "", true));
+            final var removed = leader.create(Category.create("Removed category", "", true));
+            leader.deleteById(removed.getId());
+
+            final var token = leader.sequence();
+
+            Assertions.assertEquals(4, token);
+
+            for (final var follower : new FollowerReplica[]{first, second}) {
+                Assertions.assertTrue(follower.awaitSequence(token, TIMEOUT));
+
+                final var reads = follower.gateway(0);
+
+                Assertions.assertEquals(
+                        "Renamed category",
+                        reads.findById(category.getId()).orElseThrow().getName()
+                );
+                Assertions.assertTrue(reads.findById(removed.getId()).isEmpty());
+                Assertions.assertEquals(1, reads.findAll(ALL).total());
+                Assertions.assertEquals(0, follower.lag());
+            }
+        }
+    }
+
+    @Test
+    public void givenAFollowerBehindTheRetainedLog_whenItSubscribes_thenResyncFromASnapshot() throws Exception {
+        final var leader = LeaderCategoryGateway.wrap(store(), 4);
+
+        for (int i = 0; i < 10; i++) {
+            leader.create(Category.create("Category " + i, "", true));
+        }
+
+        try (final var server = ReplicationServer.start(leader, loopback());
+             final var follower = FollowerReplica.start(server.address(), store())) {
+            Assertions.assertTrue(follower.awaitSequence(leader.sequence(), TIMEOUT));
+            Assertions.assertEquals(10, follower.gateway(0).findAll(ALL).total());
+
+            leader.create(Category.create("Category after snapshot", "", true));
+
+            Assertions.assertTrue(follower.awaitSequence(leader.sequence(), TIMEOUT));
+            Assertions.assertEquals(11, follower.gateway(0).findAll(ALL).total());
+        }
+    }
+
+    @Test
+    public void givenALeaderStoreLoadedOutsideTheLog_whenAFreshFollowerSubscribes_thenReceiveTheLoadedCategories() throws Exception {
+        final var store = store();
+        store.create(Category.create("Loaded at boot", "", true));
+        final var leader = LeaderCategoryGateway.wrap(store);
+
+        try (final var server = ReplicationServer.start(leader, loopback());
+             final var follower = FollowerReplica.start(server.address(), store())) {
+            leader.create(Category.create("Written after boot", "", true));
+
+            Assertions.assertTrue(follower.awaitSequence(leader.sequence(), TIMEOUT));
+            Assertions.assertEquals(2, follower.gateway(0).findAll(ALL).total());
+        }
+    }
+
+    @Test
+    public void givenAFollowerGateway_whenCallAWriteMethod_thenRejectIt() throws Exception {
+        final var leader = LeaderCategoryGateway.wrap(store());
+
+        try (final var server = ReplicationServer.start(leader, loopback());
+             final var follower = FollowerReplica.start(server.address(), store())) {
+            final CategoryGateway reads = follower.gateway(Long.MAX_VALUE);
+
+            Assertions.assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> reads.create(Category.create("Category name", "", true))
+            );
+        }
+    }
+
+    @Test
+    public void givenARestartedLeaderWithAnInvertedTree_whenTheFollowerReconnects_thenResyncToTheNewTree() throws Exception {
+        final var first = LeaderCategoryGateway.wrap(store());
+        final var parent = first.create(Category.create("Parent", "", true));
+        final var child = first.create(Category.create("Child", "", true, parent.getId(), Clock.systemUTC()));
+        first.create(Category.create("Dropped by the restart", "", true));
+
+        final InetSocketAddress address;
+        final var replicaStore = store();
+
+        try (final var server = ReplicationServer.start(first, loopback())) {
+            address = server.address();
+
+            try (final var follower = FollowerReplica.start(address, replicaStore)) {
+                Assertions.assertTrue(follower.awaitSequence(first.sequence(), TIMEOUT));
+            }
+        }
+
+        final var restarted = LeaderCategoryGateway.wrap(store());
+        restarted.create(Category.with(child).changeParent(null));
+        restarted.create(Category.with(parent).changeParent(child.getId()));
+
+        try (final var server = ReplicationServer.start(restarted, address);
+             final var follower = FollowerReplica.start(address, replicaStore)) {
+            Assertions.assertEquals(address, server.address());
+
+            final var deadline = System.nanoTime() + TIMEOUT.toNanos();
+
+            while (!child.getId().equals(parentOf(replicaStore, parent)) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            Assertions.assertEquals(child.getId(), parentOf(replicaStore, parent));
+            Assertions.assertNull(parentOf(replicaStore, child));
+            Assertions.assertEquals(2, replicaStore.findAll(ALL).total());
+            Assertions.assertTrue(follower.awaitSequence(restarted.sequence(), TIMEOUT));
+            Assertions.assertEquals(restarted.sequence(), follower.appliedSequence());
+            Assertions.assertFalse(follower.isStale());
+        }
+    }
+
+    @Test
+    public void givenAnArchivedCategoryOnTheLeader_whenAFollowerSyncs_thenServeItFromTheFollower() throws Exception {
+        final var store = store();
+        final var archived = store.create(Category.create(
+                "Archived", "", false, Clock.fixed(Instant.now().minus(Duration.ofDays(90)), ZoneOffset.UTC)));
+        store.create(Category.create("Active", "", true));
+
+        Assertions.assertEquals(1, store.archive());
+
+        final var leader = LeaderCategoryGateway.wrap(store);
+
+        try (final var server = ReplicationServer.start(leader, loopback());
+             final var follower = FollowerReplica.start(server.address(), store())) {
+            leader.create(Category.create("Written after archive", "", true));
+
+            Assertions.assertTrue(follower.awaitSequence(leader.sequence(), TIMEOUT));
+            Assertions.assertTrue(follower.gateway(10).findById(archived.getId()).isPresent());
+        }
+    }
+
+    @Test
+    public void givenAnUnreachableLeader_whenReadingFromTheFollower_thenRejectTheStaleReads() throws Exception {
+        final var heartbeat = Duration.ofMillis(20);
+        final var leader = LeaderCategoryGateway.wrap(store());
+        leader.create(Category.create("Category name", "", true));
+
+        try (final var follower = startedFollower(leader, heartbeat)) {
+            Thread.sleep(heartbeat.toMillis() * 10);
+
+            Assertions.assertTrue(follower.isStale());
+            Assertions.assertEquals(Long.MAX_VALUE, follower.lag());
+            Assertions.assertThrows(
+                    ReplicaLagException.class,
+                    () -> follower.gateway(Long.MAX_VALUE).findAll(ALL)
+            );
+        }
+    }
+
+    // Returns a follower that synced with the leader, whose server is closed.
+    private static FollowerReplica startedFollower(
+            final LeaderCategoryGateway leader,
+            final Duration heartbeat
+    ) throws Exception {
+        try (final var server = ReplicationServer.start(leader, loopback(), heartbeat)) {
+            final var follower = FollowerReplica.start(server.address(), store(), heartbeat);
+
+            Assertions.assertTrue(follower.awaitSequence(leader.sequence(), TIMEOUT));
+            Assertions.assertEquals(1, follower.gateway(0).findAll(ALL).total());
+            return follower;
+        }
+    }
+
+    private static CategoryId parentOf(final CategoryGateway store, final Category category) {
+        return store.findById(category.getId()).map(Category::getParentId).orElse(null);
+    }
+
+    private static InetSocketAddress loopback() {
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+    }
+
+    private static TieredCategoryGateway store() throws IOException {
+        final var path = Files.createTempFile("categories", ".cold");
+        path.toFile().deleteOnExit();
+        return TieredCategoryGateway.create(ColdCategorySegment.open(path), Duration.ofDays(30));
+    }
+}
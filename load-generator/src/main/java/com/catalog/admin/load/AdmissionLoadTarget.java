@@ -0,0 +1,38 @@
+package com.catalog.admin.load;
+
+import com.catalog.admin.application.admission.AdmissionController;
+import com.catalog.admin.application.admission.Operation;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+// Routes every call through the application admission controller, so a run
+// measures the service as deployed, shedding included.
+public class AdmissionLoadTarget implements LoadTarget {
+
+    private final LoadTarget target;
+    private final AdmissionController controller;
+
+    private AdmissionLoadTarget(final LoadTarget target, final AdmissionController controller) {
+        this.target = Objects.requireNonNull(target, "'target' must not be null");
+        this.controller = Objects.requireNonNull(controller, "'controller' must not be null");
+    }
+
+    public static AdmissionLoadTarget wrap(final LoadTarget target, final AdmissionController controller) {
+        return new AdmissionLoadTarget(target, controller);
+    }
+
+    @Override
+    public void execute(final LoadOperation operation, final SplittableRandom random) {
+        this.controller.execute(admissionOperation(operation), () -> this.target.execute(operation, random));
+    }
+
+    private static Operation admissionOperation(final LoadOperation operation) {
+        return switch (operation) {
+            case CREATE -> Operation.CREATE;
+            case UPDATE -> Operation.UPDATE;
+            case FIND_BY_ID -> Operation.GET;
+            case FIND_ALL, SEARCH -> Operation.LIST;
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package com.catalog.admin.load;
+
+import com.catalog.admin.domain.category.Category;
+import com.catalog.admin.domain.category.CategoryGateway;
+import com.catalog.admin.domain.category.CategoryId;
+import com.catalog.admin.domain.category.CategorySearchQuery;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Drives a CategoryGateway directly. Reads and updates pick ids from a fixed
+// size pool seeded up front; creates overwrite a random slot of the pool so
+// later reads also hit freshly written categories.
+public class GatewayLoadTarget implements LoadTarget {
+
+    private static final String[] SORTS = {"name", "createdAt", "updatedAt"};
+
+    private final CategoryGateway gateway;
+    private final AtomicReferenceArray<CategoryId> ids;
+
+    private GatewayLoadTarget(final CategoryGateway gateway, final int seed) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' must not be null");
+
+        if (seed < 1) {
+            throw new IllegalArgumentException("'seed' must be at least 1");
+        }
+
+        this.ids = new AtomicReferenceArray<>(seed);
+
+        for (int i = 0; i < seed; i++) {
+            this.ids.set(i, gateway.create(newCategory(i)).getId());
+        }
+    }
+
+    public static GatewayLoadTarget seeded(final CategoryGateway gateway, final int seed) {
+        return new GatewayLoadTarget(gateway, seed);
+    }
+
+    @Override
+    public void execute(final LoadOperation operation, final SplittableRandom random) {
+        switch (operation) {
+            case CREATE -> {
+                final var category = this.gateway.create(newCategory(random.nextInt(1_000_000)));
+                this.ids.set(random.nextInt(this.ids.length()), category.getId());
+            }
+            case UPDATE -> this.gateway.findById(randomId(random)).ifPresent(category -> this.gateway.update(
+                    category.update(category.getName(), "Updated " + random.nextInt(1_000), true)
+            ));
+            case FIND_BY_ID -> this.gateway.findById(randomId(random));
+            case FIND_ALL -> this.gateway.findAll(new CategorySearchQuery(
+                    random.nextInt(10), 10, 0, "", SORTS[random.nextInt(SORTS.length)], "asc"
+            ));
+            case SEARCH -> this.gateway.findAll(new CategorySearchQuery(
+                    0, 10, 0, "category " + random.nextInt(100), "name", "asc"
+            ));
+        }
+    }
+
+    private CategoryId randomId(final SplittableRandom random) {
+        return this.ids.get(random.nextInt(this.ids.length()));
+    }
+
+    private static Category newCategory(final int index) {
+        return Category.create("Category " + index, "Generated by the load generator", true);
+    }
+}
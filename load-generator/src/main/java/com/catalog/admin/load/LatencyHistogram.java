@@ -0,0 +1,89 @@
+package com.catalog.admin.load;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Log-linear histogram of nanosecond values: exact below 64 ns, then 64
+// linear sub-buckets per power of two, which bounds the relative error of any
+// reported percentile to about 1.6%. Recording is lock-free.
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(final long nanos) {
+        final var value = Math.max(0, nanos);
+
+        this.counts.incrementAndGet(index(value));
+        this.count.increment();
+        this.sum.add(value);
+        this.max.accumulateAndGet(value, Math::max);
+    }
+
+    public long count() {
+        return this.count.sum();
+    }
+
+    public long max() {
+        return this.max.get();
+    }
+
+    public double mean() {
+        final var count = count();
+        return count == 0 ? 0 : (double) this.sum.sum() / count;
+    }
+
+    // Returns the highest value equivalent to the bucket holding the given
+    // percentile, so reported latencies never understate what was observed.
+    public long percentile(final double percentile) {
+        final var count = count();
+
+        if (count == 0) {
+            return 0;
+        }
+
+        final var target = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.counts.get(i);
+
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), max());
+            }
+        }
+
+        return max();
+    }
+
+    static int index(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        final var msb = 63 - Long.numberOfLeadingZeros(value);
+        final var shift = msb - SUB_BUCKET_BITS;
+        final var subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestEquivalentValue(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        final var shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        final var subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        final var lowest = (long) (SUB_BUCKETS + subBucket) << shift;
+
+        return lowest + (1L << shift) - 1;
+    }
+}
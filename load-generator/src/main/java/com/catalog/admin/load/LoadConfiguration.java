@@ -0,0 +1,63 @@
+package com.catalog.admin.load;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Set;
+
+public record LoadConfiguration(
+        int ratePerSecond,
+        Duration duration,
+        int clients,
+        int seed,
+        LoadMix mix,
+        boolean admission
+) {
+
+    private static final Set<String> KEYS = Set.of("rate", "duration", "clients", "seed", "mix", "admission");
+
+    public LoadConfiguration {
+        if (ratePerSecond < 1) {
+            throw new IllegalArgumentException("'rate' must be at least 1");
+        }
+
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("'duration' must be positive");
+        }
+
+        if (clients < 1) {
+            throw new IllegalArgumentException("'clients' must be at least 1");
+        }
+    }
+
+    // Parses arguments of the form --rate=5000 --duration=PT30S --clients=512
+    // --seed=10000 --mix=create:1,update:1,findById:6,findAll:1,search:1
+    // --admission=true
+    public static LoadConfiguration parse(final String[] args) {
+        final var values = new HashMap<String, String>();
+
+        for (final var arg : args) {
+            final var separator = arg.indexOf('=');
+
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("argument '%s' must be --key=value".formatted(arg));
+            }
+
+            final var key = arg.substring(2, separator);
+
+            if (!KEYS.contains(key)) {
+                throw new IllegalArgumentException("unknown argument '%s'".formatted(key));
+            }
+
+            values.put(key, arg.substring(separator + 1));
+        }
+
+        return new LoadConfiguration(
+                Integer.parseInt(values.getOrDefault("rate", "1000")),
+                Duration.parse(values.getOrDefault("duration", "PT10S")),
+                Integer.parseInt(values.getOrDefault("clients", "256")),
+                Integer.parseInt(values.getOrDefault("seed", "10000")),
+                LoadMix.parse(values.getOrDefault("mix", "create:1,update:1,findById:6,findAll:1,search:1")),
+                Boolean.parseBoolean(values.getOrDefault("admission", "false"))
+        );
+    }
+}
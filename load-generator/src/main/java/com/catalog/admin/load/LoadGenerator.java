@@ -0,0 +1,126 @@
+package com.catalog.admin.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Open-loop generator: requests are released on a fixed schedule no matter
+// how slowly earlier ones complete, and each latency is measured from its
+// scheduled start. A closed loop would wait out a stall and hide it from the
+// percentiles (coordinated omission).
+public class LoadGenerator {
+
+    private static final long SPIN_THRESHOLD_NANOS = 50_000;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadConfiguration configuration;
+    private final LoadTarget target;
+
+    private LoadGenerator(final LoadConfiguration configuration, final LoadTarget target) {
+        this.configuration = Objects.requireNonNull(configuration, "'configuration' must not be null");
+        this.target = Objects.requireNonNull(target, "'target' must not be null");
+    }
+
+    public static LoadGenerator create(final LoadConfiguration configuration, final LoadTarget target) {
+        return new LoadGenerator(configuration, target);
+    }
+
+    public LoadReport run() {
+        final var latencies = new EnumMap<LoadOperation, LatencyHistogram>(LoadOperation.class);
+        final var serviceTimes = new EnumMap<LoadOperation, LatencyHistogram>(LoadOperation.class);
+        final var errors = new EnumMap<LoadOperation, LongAdder>(LoadOperation.class);
+
+        for (final var operation : LoadOperation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+            serviceTimes.put(operation, new LatencyHistogram());
+            errors.put(operation, new LongAdder());
+        }
+
+        final var clients = new Semaphore(this.configuration.clients());
+        final var executor = clientExecutor(this.configuration.clients());
+        final var scheduler = new SplittableRandom();
+        final var intervalNanos = 1e9 / this.configuration.ratePerSecond();
+        final var total = (long) (this.configuration.duration().toNanos() / intervalNanos);
+        final var start = System.nanoTime();
+
+        for (long i = 0; i < total; i++) {
+            final var intended = start + (long) (i * intervalNanos);
+            final var operation = this.configuration.mix().pick(scheduler);
+            final var random = scheduler.split();
+
+            parkUntil(intended);
+
+            executor.execute(() -> {
+                clients.acquireUninterruptibly();
+                final var picked = System.nanoTime();
+
+                try {
+                    this.target.execute(operation, random);
+                } catch (final RuntimeException ex) {
+                    errors.get(operation).increment();
+                } finally {
+                    clients.release();
+
+                    final var end = System.nanoTime();
+                    latencies.get(operation).record(end - intended);
+                    serviceTimes.get(operation).record(end - picked);
+                }
+            });
+        }
+
+        executor.shutdown();
+
+        try {
+            if (!executor.awaitTermination(DRAIN_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (final InterruptedException ex) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        return new LoadReport(
+                Duration.ofNanos(System.nanoTime() - start),
+                total,
+                latencies,
+                serviceTimes,
+                errors
+        );
+    }
+
+    private static void parkUntil(final long deadline) {
+        long remaining;
+
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    // One virtual thread per request when the runtime has them (Java 21+),
+    // with the semaphore bounding how many act as clients at once. Older
+    // runtimes fall back to a platform thread per client.
+    static ExecutorService clientExecutor(final int clients) {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (final ReflectiveOperationException ex) {
+            return Executors.newFixedThreadPool(clients, runnable -> {
+                final var thread = new Thread(runnable, "load-client");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.catalog.admin.load;
+
+import com.catalog.admin.application.admission.AdmissionController;
+import com.catalog.admin.application.admission.AimdConcurrencyLimit;
+import com.catalog.admin.application.admission.Operation;
+import com.catalog.admin.infrastructure.category.persistence.ColdCategorySegment;
+import com.catalog.admin.infrastructure.category.persistence.TieredCategoryGateway;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+
+public class LoadGeneratorMain {
+
+    public static void main(String[] args) throws IOException {
+        final var configuration = LoadConfiguration.parse(args);
+        final var coldSegment = Files.createTempFile("load-categories", ".cold");
+        coldSegment.toFile().deleteOnExit();
+
+        try (final var cold = ColdCategorySegment.open(coldSegment)) {
+            final var gateway = TieredCategoryGateway.create(cold, Duration.ofDays(30));
+            LoadTarget target = GatewayLoadTarget.seeded(gateway, configuration.seed());
+
+            if (configuration.admission()) {
+                final var builder = AdmissionController.builder();
+                final var maxLimit = configuration.clients();
+                final var initialLimit = Math.min(64, maxLimit);
+                final var minLimit = Math.min(4, initialLimit);
+
+                for (final var operation : Operation.values()) {
+                    builder.concurrencyLimit(
+                            operation,
+                            AimdConcurrencyLimit.create(initialLimit, minLimit, maxLimit, Duration.ofMillis(5))
+                    );
+                }
+
+                target = AdmissionLoadTarget.wrap(target, builder.build());
+            }
+
+            LoadGenerator.create(configuration, target).run().print(System.out);
+        }
+    }
+}
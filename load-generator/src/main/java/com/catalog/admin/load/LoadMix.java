@@ -0,0 +1,70 @@
+package com.catalog.admin.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+public class LoadMix {
+
+    private final LoadOperation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private LoadMix(final Map<LoadOperation, Integer> weights) {
+        this.operations = new LoadOperation[weights.size()];
+        this.cumulativeWeights = new int[weights.size()];
+
+        var total = 0;
+        var i = 0;
+
+        for (final var entry : weights.entrySet()) {
+            if (entry.getValue() < 0) {
+                throw new IllegalArgumentException("weight of '%s' must not be negative".formatted(entry.getKey()));
+            }
+
+            total += entry.getValue();
+            this.operations[i] = entry.getKey();
+            this.cumulativeWeights[i] = total;
+            i++;
+        }
+
+        if (total == 0) {
+            throw new IllegalArgumentException("mix must have at least one positive weight");
+        }
+
+        this.totalWeight = total;
+    }
+
+    public static LoadMix with(final Map<LoadOperation, Integer> weights) {
+        return new LoadMix(new EnumMap<>(weights));
+    }
+
+    // Parses "create:1,update:1,findById:6,findAll:1,search:1".
+    public static LoadMix parse(final String value) {
+        final var weights = new EnumMap<LoadOperation, Integer>(LoadOperation.class);
+
+        for (final var part : value.split(",")) {
+            final var pair = part.split(":");
+
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix entry '%s' must be operation:weight".formatted(part));
+            }
+
+            weights.merge(LoadOperation.parse(pair[0]), Integer.parseInt(pair[1].trim()), Integer::sum);
+        }
+
+        return new LoadMix(weights);
+    }
+
+    public LoadOperation pick(final SplittableRandom random) {
+        final var value = random.nextInt(this.totalWeight);
+
+        for (int i = 0; i < this.cumulativeWeights.length; i++) {
+            if (value < this.cumulativeWeights[i]) {
+                return this.operations[i];
+            }
+        }
+
+        return this.operations[this.operations.length - 1];
+    }
+}
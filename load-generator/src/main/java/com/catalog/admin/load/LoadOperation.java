@@ -0,0 +1,22 @@
+package com.catalog.admin.load;
+
+import java.util.Locale;
+
+public enum LoadOperation {
+    CREATE,
+    UPDATE,
+    FIND_BY_ID,
+    FIND_ALL,
+    SEARCH;
+
+    public static LoadOperation parse(final String value) {
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "create" -> CREATE;
+            case "update" -> UPDATE;
+            case "findbyid", "find_by_id" -> FIND_BY_ID;
+            case "findall", "find_all" -> FIND_ALL;
+            case "search" -> SEARCH;
+            default -> throw new IllegalArgumentException("unknown operation '%s'".formatted(value));
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.catalog.admin.load;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public record LoadReport(
+        Duration elapsed,
+        long scheduled,
+        Map<LoadOperation, LatencyHistogram> latencies,
+        Map<LoadOperation, LatencyHistogram> serviceTimes,
+        Map<LoadOperation, LongAdder> errors
+) {
+
+    public long completed() {
+        long completed = 0;
+
+        for (final var histogram : latencies.values()) {
+            completed += histogram.count();
+        }
+
+        return completed;
+    }
+
+    public double throughput() {
+        return completed() / (elapsed.toNanos() / 1e9);
+    }
+
+    // Latency is measured from the instant each request was scheduled to
+    // start, so time spent queued behind a stall is counted; service time is
+    // measured from when a client actually picked the request up.
+    public void print(final PrintStream out) {
+        out.printf(
+                "%d scheduled, %d completed in %.1f s (%.1f ops/s)%n",
+                scheduled, completed(), elapsed.toNanos() / 1e9, throughput()
+        );
+        out.printf(
+                "%-11s %9s %7s %10s %10s %10s %10s %10s %14s%n",
+                "operation", "count", "errors", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms (svc)"
+        );
+
+        for (final var entry : latencies.entrySet()) {
+            final var latency = entry.getValue();
+            final var service = serviceTimes.get(entry.getKey());
+
+            out.printf(
+                    "%-11s %9d %7d %10.1f %10.3f %10.3f %10.3f %10.3f %7.3f (%.3f)%n",
+                    entry.getKey(),
+                    latency.count(),
+                    errors.get(entry.getKey()).sum(),
+                    latency.count() / (elapsed.toNanos() / 1e9),
+                    millis(latency.percentile(50)),
+                    millis(latency.percentile(90)),
+                    millis(latency.percentile(99)),
+                    millis(latency.percentile(99.9)),
+                    millis(latency.max()),
+                    millis(service.max())
+            );
+        }
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1e6;
+    }
+}
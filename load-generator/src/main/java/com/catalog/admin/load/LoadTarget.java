@@ -0,0 +1,8 @@
+package com.catalog.admin.load;
+
+import java.util.SplittableRandom;
+
+public interface LoadTarget {
+
+    void execute(LoadOperation operation, SplittableRandom random);
+}
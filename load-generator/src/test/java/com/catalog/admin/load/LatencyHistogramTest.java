@@ -0,0 +1,49 @@
+package com.catalog.admin.load;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void givenUniformValues_whenCallPercentile_thenStayWithinTheBucketPrecision() {
+        final var histogram = new LatencyHistogram();
+
+        for (long value = 1; value <= 1_000_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        Assertions.assertEquals(1_000_000, histogram.count());
+        Assertions.assertEquals(1_000_000_000L, histogram.max());
+        assertWithinPrecision(500_000_000L, histogram.percentile(50));
+        assertWithinPrecision(990_000_000L, histogram.percentile(99));
+        Assertions.assertEquals(1_000_000_000L, histogram.percentile(100));
+    }
+
+    @Test
+    public void givenAnyValue_whenCallIndex_thenTheBucketBoundsContainTheValue() {
+        final long[] values = {0, 1, 63, 64, 65, 127, 128, 1_000, 123_456_789L, Long.MAX_VALUE};
+
+        for (final var value : values) {
+            final var index = LatencyHistogram.index(value);
+
+            Assertions.assertTrue(LatencyHistogram.highestEquivalentValue(index) >= value);
+            Assertions.assertTrue(index == 0 || LatencyHistogram.highestEquivalentValue(index - 1) < value);
+        }
+    }
+
+    @Test
+    public void givenAnEmptyHistogram_whenCallPercentile_thenReturnZero() {
+        final var histogram = new LatencyHistogram();
+
+        Assertions.assertEquals(0, histogram.percentile(99));
+        Assertions.assertEquals(0.0, histogram.mean());
+    }
+
+    private static void assertWithinPrecision(final long expected, final long actual) {
+        Assertions.assertTrue(
+                Math.abs(actual - expected) <= expected / 60,
+                "expected about %d but was %d".formatted(expected, actual)
+        );
+    }
+}
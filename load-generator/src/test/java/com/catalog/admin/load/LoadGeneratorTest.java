@@ -0,0 +1,56 @@
+package com.catalog.admin.load;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+public class LoadGeneratorTest {
+
+    @Test
+    public void givenATargetThatStalls_whenCallRun_thenCountTheQueueingInTheLatency() {
+        final var configuration = new LoadConfiguration(
+                1_000,
+                Duration.ofMillis(200),
+                1,
+                1,
+                LoadMix.with(Map.of(LoadOperation.FIND_BY_ID, 1)),
+                false
+        );
+        final var calls = new int[1];
+        final LoadTarget target = (operation, random) -> {
+            if (calls[0]++ == 0) {
+                sleep(Duration.ofMillis(50));
+            }
+        };
+
+        final var report = LoadGenerator.create(configuration, target).run();
+        final var latency = report.latencies().get(LoadOperation.FIND_BY_ID);
+        final var service = report.serviceTimes().get(LoadOperation.FIND_BY_ID);
+
+        Assertions.assertEquals(200, report.scheduled());
+        Assertions.assertEquals(200, report.completed());
+        Assertions.assertTrue(latency.percentile(90) >= Duration.ofMillis(10).toNanos());
+        Assertions.assertTrue(service.percentile(90) < Duration.ofMillis(10).toNanos());
+    }
+
+    @Test
+    public void givenAMixString_whenCallParse_thenPickOnlyWeightedOperations() {
+        final var mix = LoadMix.parse("create:0,findById:1");
+        final var random = new SplittableRandom(42);
+
+        for (int i = 0; i < 1_000; i++) {
+            Assertions.assertEquals(LoadOperation.FIND_BY_ID, mix.pick(random));
+        }
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}